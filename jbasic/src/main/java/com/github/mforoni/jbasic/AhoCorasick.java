@@ -0,0 +1,304 @@
+package com.github.mforoni.jbasic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * Searches a set of patterns in a text in a single pass, using the
+ * <a href="https://en.wikipedia.org/wiki/Aho%E2%80%93Corasick_algorithm">Aho-Corasick</a>
+ * automaton.
+ * <p>
+ * The characters occurring in the patterns are mapped to consecutive classes, and the goto function
+ * of the trie, completed with the failure transitions, is packed in a single {@code int[]} indexed
+ * by {@code state * classes + class}: each character of the text costs one array access, whatever
+ * the number of patterns. The characters not occurring in any pattern all belong to class 0, which
+ * always leads back to the initial state.
+ *
+ * @author Foroni Marco
+ */
+@Beta
+@Immutable
+public final class AhoCorasick {
+  private final String[] patterns;
+  private final int[] classes = new int[Character.MAX_VALUE + 1];
+  private final int alphabet;
+  private final int[] delta;
+  // the index of the pattern ending in each state, -1 if none
+  private final int[] terminals;
+  // the nearest state in the failure chain of each state having a terminal, 0 if none
+  private final int[] outputs;
+
+  private AhoCorasick(final String[] patterns) {
+    this.patterns = patterns;
+    int size = 1;
+    long states = 1;
+    for (final String pattern : patterns) {
+      Preconditions.checkArgument(pattern != null && !pattern.isEmpty(),
+          "The patterns cannot be null or empty");
+      states += pattern.length();
+      for (int i = 0; i < pattern.length(); i++) {
+        final char c = pattern.charAt(i);
+        if (classes[c] == 0) {
+          classes[c] = size++;
+        }
+      }
+    }
+    alphabet = size;
+    Preconditions.checkArgument(states * alphabet <= Integer.MAX_VALUE - 8,
+        "Too many transitions for %s patterns of %s total characters over an alphabet of %s",
+        patterns.length, states - 1, alphabet - 1);
+    // builds the trie: 0 marks a missing transition, since no transition leads to the root
+    final int[] trie = new int[(int) states * alphabet];
+    final int[] terminals = new int[(int) states];
+    Arrays.fill(terminals, -1);
+    int count = 1;
+    for (int p = 0; p < patterns.length; p++) {
+      int state = 0;
+      for (int i = 0; i < patterns[p].length(); i++) {
+        final int slot = state * alphabet + classes[patterns[p].charAt(i)];
+        if (trie[slot] == 0) {
+          trie[slot] = count++;
+        }
+        state = trie[slot];
+      }
+      if (terminals[state] == -1) {
+        terminals[state] = p;
+      }
+    }
+    // completes the goto function with the failure transitions, in breadth-first order
+    delta = Arrays.copyOf(trie, count * alphabet);
+    this.terminals = Arrays.copyOf(terminals, count);
+    outputs = new int[count];
+    final int[] fails = new int[count];
+    final int[] queue = new int[count];
+    int head = 0;
+    int tail = 0;
+    for (int c = 1; c < alphabet; c++) {
+      if (delta[c] != 0) {
+        queue[tail++] = delta[c];
+      }
+    }
+    while (head < tail) {
+      final int state = queue[head++];
+      final int fail = fails[state];
+      outputs[state] = this.terminals[fail] != -1 ? fail : outputs[fail];
+      for (int c = 1; c < alphabet; c++) {
+        final int slot = state * alphabet + c;
+        final int next = delta[slot];
+        if (next == 0) {
+          delta[slot] = delta[fail * alphabet + c];
+        } else {
+          fails[next] = delta[fail * alphabet + c];
+          queue[tail++] = next;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a new {@code AhoCorasick} searching the given patterns.
+   *
+   * @param patterns the patterns to search
+   * @return a new {@code AhoCorasick} searching the given patterns
+   * @throws IllegalArgumentException if a pattern is <tt>null</tt> or empty, or the transitions of
+   *         the patterns do not fit in an array
+   */
+  @Nonnull
+  public static AhoCorasick of(@Nonnull final String... patterns) {
+    return new AhoCorasick(Arrays.copyOf(patterns, patterns.length));
+  }
+
+  /**
+   * Returns a new {@code AhoCorasick} searching the patterns of the given {@link Collection}.
+   *
+   * @param patterns the patterns to search
+   * @return a new {@code AhoCorasick} searching the given patterns
+   * @throws IllegalArgumentException if a pattern is <tt>null</tt> or empty, or the transitions of
+   *         the patterns do not fit in an array
+   */
+  @Nonnull
+  public static AhoCorasick copyOf(@Nonnull final Collection<String> patterns) {
+    return new AhoCorasick(patterns.toArray(new String[patterns.size()]));
+  }
+
+  /**
+   * Returns the number of patterns, duplicates included.
+   *
+   * @return the number of patterns
+   */
+  public int size() {
+    return patterns.length;
+  }
+
+  /**
+   * Returns the pattern at the specified index.
+   *
+   * @param index the index of the pattern
+   * @return the pattern at the specified index
+   */
+  @Nonnull
+  public String getPattern(final int index) {
+    return patterns[index];
+  }
+
+  /**
+   * Returns <tt>true</tt> if the given {@code text} contains at least one of the patterns.
+   *
+   * @param text the text to search
+   * @return <tt>true</tt> if the given {@code text} contains at least one of the patterns
+   */
+  public boolean containsAny(@Nonnull final CharSequence text) {
+    return findFirst(text) != null;
+  }
+
+  /**
+   * Returns the match ending first in the given {@code text}, the longest one if many patterns end
+   * at the same position, or <tt>null</tt> if no pattern occurs.
+   *
+   * @param text the text to search
+   * @return the match ending first, or <tt>null</tt> if no pattern occurs
+   */
+  @Nullable
+  public Match findFirst(@Nonnull final CharSequence text) {
+    int state = 0;
+    for (int i = 0; i < text.length(); i++) {
+      state = delta[state * alphabet + classes[text.charAt(i)]];
+      final int output = terminals[state] != -1 ? state : outputs[state];
+      if (output != 0) {
+        return match(terminals[output], i + 1);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns all the matches of the patterns in the given {@code text}, overlapping ones included,
+   * ordered by end position and then from the longest to the shortest.
+   *
+   * @param text the text to search
+   * @return a {@code List} of all the matches
+   */
+  @Nonnull
+  public List<Match> findAll(@Nonnull final CharSequence text) {
+    final List<Match> matches = new ArrayList<>();
+    int state = 0;
+    for (int i = 0; i < text.length(); i++) {
+      state = delta[state * alphabet + classes[text.charAt(i)]];
+      for (int s = terminals[state] != -1 ? state : outputs[state]; s != 0; s = outputs[s]) {
+        matches.add(match(terminals[s], i + 1));
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * Returns the number of occurrences of each pattern in the given {@code text}.
+   *
+   * @param text the text to search
+   * @return an array of {@code int} where array[i] = occurrences of the pattern at index {@code i}
+   * @see #count(CharSequence, int[])
+   */
+  @Nonnull
+  public int[] count(@Nonnull final CharSequence text) {
+    final int[] counts = new int[patterns.length];
+    count(text, counts);
+    return counts;
+  }
+
+  /**
+   * Adds the number of occurrences of each pattern in the given {@code text} to the specified
+   * array, which can be reused to count many texts. The occurrences of a duplicated pattern are
+   * counted at the index of its first occurrence.
+   *
+   * @param text the text to search
+   * @param counts an array having at least {@link #size()} elements
+   * @throws IllegalArgumentException if the array is too short
+   */
+  public void count(@Nonnull final CharSequence text, @Nonnull final int[] counts) {
+    Preconditions.checkArgument(counts.length >= patterns.length,
+        "The array must have at least one element per pattern");
+    int state = 0;
+    for (int i = 0; i < text.length(); i++) {
+      state = delta[state * alphabet + classes[text.charAt(i)]];
+      for (int s = terminals[state] != -1 ? state : outputs[state]; s != 0; s = outputs[s]) {
+        counts[terminals[s]]++;
+      }
+    }
+  }
+
+  private Match match(final int pattern, final int end) {
+    return new Match(pattern, end - patterns[pattern].length(), end);
+  }
+
+  /**
+   * An occurrence of a pattern in a text.
+   */
+  @Immutable
+  public static final class Match {
+    private final int patternIndex;
+    private final int start;
+    private final int end;
+
+    private Match(final int patternIndex, final int start, final int end) {
+      this.patternIndex = patternIndex;
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+     * Returns the index of the pattern found.
+     *
+     * @return the index of the pattern found
+     */
+    public int getPatternIndex() {
+      return patternIndex;
+    }
+
+    /**
+     * Returns the index of the first character of the occurrence, inclusive.
+     *
+     * @return the index of the first character of the occurrence
+     */
+    public int getStart() {
+      return start;
+    }
+
+    /**
+     * Returns the index of the last character of the occurrence, exclusive.
+     *
+     * @return the index of the last character of the occurrence, exclusive
+     */
+    public int getEnd() {
+      return end;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Match)) {
+        return false;
+      }
+      final Match other = (Match) obj;
+      return patternIndex == other.patternIndex && start == other.start && end == other.end;
+    }
+
+    @Override
+    public int hashCode() {
+      return (31 * patternIndex + start) * 31 + end;
+    }
+
+    @Override
+    public String toString() {
+      return patternIndex + "@[" + start + ", " + end + ")";
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.github.mforoni.jbasic;
+
+import javax.annotation.Nonnull;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+import info.debatty.java.stringsimilarity.Levenshtein;
+
+/**
+ * The <a href="https://en.wikipedia.org/wiki/Levenshtein_distance">Levenshtein distance</a>
+ * computed only inside the diagonal band allowed by a threshold, aborting as soon as every cell of
+ * a row exceeds it.
+ * <p>
+ * The two rows of the dynamic programming matrix are kept in per-thread buffers, therefore once
+ * warmed up no allocation is performed per comparison. Returns the same values of
+ * {@link Levenshtein}.
+ *
+ * @author Foroni Marco
+ * @see Levenshtein
+ */
+@Beta
+public final class BoundedLevenshtein implements BoundedStringDistance {
+  private static final long serialVersionUID = 1L;
+  private static final ThreadLocal<int[][]> ROWS = new ThreadLocal<int[][]>() {
+    @Override
+    protected int[][] initialValue() {
+      return new int[][] {new int[64], new int[64]};
+    }
+  };
+
+  @Override
+  public double distance(@Nonnull final String s1, @Nonnull final String s2) {
+    return distance(s1, s2, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int distance(@Nonnull final String s1, @Nonnull final String s2, final int threshold) {
+    Preconditions.checkNotNull(s1);
+    Preconditions.checkNotNull(s2);
+    Preconditions.checkArgument(threshold >= 0, "threshold cannot be negative");
+    // common prefix and suffix do not contribute to the distance
+    int start = 0;
+    int end1 = s1.length();
+    int end2 = s2.length();
+    while (start < end1 && start < end2 && s1.charAt(start) == s2.charAt(start)) {
+      start++;
+    }
+    while (end1 > start && end2 > start && s1.charAt(end1 - 1) == s2.charAt(end2 - 1)) {
+      end1--;
+      end2--;
+    }
+    if (end1 - start <= end2 - start) {
+      return bounded(s1, start, end1, s2, start, end2, threshold);
+    }
+    return bounded(s2, start, end2, s1, start, end1, threshold);
+  }
+
+  /**
+   * Computes the bounded distance between the ranges {@code left[leftStart, leftEnd)} and
+   * {@code right[rightStart, rightEnd)}, where the left range is not longer than the right one.
+   */
+  private static int bounded(final String left, final int leftStart, final int leftEnd,
+      final String right, final int rightStart, final int rightEnd, final int threshold) {
+    final int n = leftEnd - leftStart;
+    final int m = rightEnd - rightStart;
+    if (m - n > threshold) {
+      return -1;
+    }
+    if (n == 0) {
+      return m;
+    }
+    // a threshold greater than m cannot be reached, clamping it avoids overflows below
+    final int k = Math.min(threshold, m);
+    final int[][] rows = rows(n + 1);
+    int[] p = rows[0];
+    int[] d = rows[1];
+    final int boundary = Math.min(n, k) + 1;
+    for (int i = 0; i < boundary; i++) {
+      p[i] = i;
+    }
+    for (int i = boundary; i <= n; i++) {
+      p[i] = Integer.MAX_VALUE;
+    }
+    for (int i = 0; i <= n; i++) {
+      d[i] = Integer.MAX_VALUE;
+    }
+    for (int j = 1; j <= m; j++) {
+      final char c = right.charAt(rightStart + j - 1);
+      d[0] = j;
+      final int min = Math.max(1, j - k);
+      final int max = Math.min(n, j + k);
+      if (min > max) {
+        return -1;
+      }
+      if (min > 1) {
+        d[min - 1] = Integer.MAX_VALUE;
+      }
+      int lowerBound = min > 1 ? Integer.MAX_VALUE : j;
+      for (int i = min; i <= max; i++) {
+        if (left.charAt(leftStart + i - 1) == c) {
+          d[i] = p[i - 1];
+        } else {
+          d[i] = 1 + Math.min(Math.min(d[i - 1], p[i]), p[i - 1]);
+        }
+        if (d[i] < lowerBound) {
+          lowerBound = d[i];
+        }
+      }
+      if (lowerBound > k) {
+        return -1;
+      }
+      final int[] swap = p;
+      p = d;
+      d = swap;
+    }
+    return p[n] <= k ? p[n] : -1;
+  }
+
+  private static int[][] rows(final int length) {
+    final int[][] rows = ROWS.get();
+    if (rows[0].length < length) {
+      final int capacity = Math.max(length, rows[0].length * 2);
+      rows[0] = new int[capacity];
+      rows[1] = new int[capacity];
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,30 @@
+package com.github.mforoni.jbasic;
+
+import javax.annotation.Nonnull;
+import info.debatty.java.stringsimilarity.interfaces.MetricStringDistance;
+
+/**
+ * A {@link MetricStringDistance} having integer values which can stop computing the distance as
+ * soon as it is known to be greater than a given threshold.
+ * <p>
+ * {@link JStrings#similars(String, java.util.Collection, MetricStringDistance)} recognizes
+ * implementations of this interface and passes the current minimum distance as threshold, so that
+ * the strings which cannot be similars are discarded as early as possible.
+ *
+ * @author Foroni Marco
+ * @see MetricStringDistance
+ */
+public interface BoundedStringDistance extends MetricStringDistance {
+  /**
+   * Returns the distance between the strings {@code s1} and {@code s2} if it is not greater than
+   * {@code threshold}, otherwise returns <tt>-1</tt>.
+   *
+   * @param s1 the first string
+   * @param s2 the second string
+   * @param threshold the maximum distance of interest, inclusive
+   * @return the distance between {@code s1} and {@code s2}, or <tt>-1</tt> if it is greater than
+   *         {@code threshold}
+   * @throws IllegalArgumentException if {@code threshold} is negative
+   */
+  int distance(@Nonnull String s1, @Nonnull String s2, int threshold);
+}
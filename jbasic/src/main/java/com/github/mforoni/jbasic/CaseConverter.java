@@ -0,0 +1,153 @@
+package com.github.mforoni.jbasic;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import com.google.common.annotations.Beta;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Converts phrases whose words are separated by spaces, underscores or hyphens (snake case, kebab
+ * case or plain text) to lower or upper <a href= "https://en.wikipedia.org/wiki/CamelCase">Camel
+ * Case</a>, in a single pass.
+ * <p>
+ * The first character of each word but the first is converted in upper case, the first character
+ * of the first word in upper case only by {@link #upperCamel()}, and all the other characters in
+ * lower case; the separators are removed. For example {@code "CUSTOMER_first-name"} is converted
+ * to {@code "customerFirstName"} by {@link #lowerCamel()}.
+ * <p>
+ * Since the same few identifiers tend to be converted over and over, the results for strings not
+ * longer than {@value #MAX_CACHED_LENGTH} characters are kept in a bounded concurrent cache; the
+ * {@code appendTo} methods never use the cache and write into the given builder, which can be
+ * reused among many inputs.
+ *
+ * @author Foroni Marco
+ * @see JStrings#lowerCamelCase(String)
+ * @see JStrings#upperCamelCase(String)
+ */
+@Beta
+@ThreadSafe
+public final class CaseConverter {
+  /**
+   * The maximum length of the strings whose conversion is cached.
+   */
+  public static final int MAX_CACHED_LENGTH = 64;
+  private static final int MAXIMUM_CACHE_SIZE = 4096;
+  private static final CharClass SEPARATORS = CharClass.of(' ', '_', '-');
+  private static final CaseConverter LOWER_CAMEL = new CaseConverter(false);
+  private static final CaseConverter UPPER_CAMEL = new CaseConverter(true);
+
+  private final boolean upperFirst;
+  private final LoadingCache<String, String> cache;
+
+  private CaseConverter(final boolean upperFirst) {
+    this.upperFirst = upperFirst;
+    cache = CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHE_SIZE).recordStats()
+        .build(new CacheLoader<String, String>() {
+          @Override
+          public String load(final String s) {
+            return appendTo(new StringBuilder(s.length()), s).toString();
+          }
+        });
+  }
+
+  /**
+   * Returns the {@code CaseConverter} to lower Camel Case, e.g. {@code "lowerCamel"}.
+   *
+   * @return the {@code CaseConverter} to lower Camel Case
+   */
+  @Nonnull
+  public static CaseConverter lowerCamel() {
+    return LOWER_CAMEL;
+  }
+
+  /**
+   * Returns the {@code CaseConverter} to upper Camel Case, e.g. {@code "UpperCamel"}.
+   *
+   * @return the {@code CaseConverter} to upper Camel Case
+   */
+  @Nonnull
+  public static CaseConverter upperCamel() {
+    return UPPER_CAMEL;
+  }
+
+  /**
+   * Returns the conversion of the given string, taken from the cache if {@code s} is not longer
+   * than {@value #MAX_CACHED_LENGTH} characters.
+   *
+   * @param s the string to convert
+   * @return the conversion of {@code s}
+   */
+  @Nonnull
+  public String convert(@Nonnull final String s) {
+    if (s.length() <= MAX_CACHED_LENGTH) {
+      return cache.getUnchecked(s);
+    }
+    return appendTo(new StringBuilder(s.length()), s).toString();
+  }
+
+  /**
+   * Appends the conversion of the given sequence to {@code builder}, without using the cache.
+   *
+   * @param builder the builder to append to
+   * @param s the sequence to convert
+   * @return {@code builder}
+   */
+  @Nonnull
+  public StringBuilder appendTo(@Nonnull final StringBuilder builder,
+      @Nonnull final CharSequence s) {
+    return appendTo(builder, s, SEPARATORS, upperFirst);
+  }
+
+  /**
+   * Appends the words of {@code s} delimited by the characters of {@code separators} to
+   * {@code builder} in Camel Case. The separators are removed, so leading, trailing and repeated
+   * separators delimit no word.
+   */
+  static StringBuilder appendTo(final StringBuilder builder, final CharSequence s,
+      final CharClass separators, final boolean upperFirst) {
+    boolean capitalize = upperFirst;
+    int i = 0;
+    while (i < s.length()) {
+      if (separators.matches(s.charAt(i))) {
+        i++;
+      } else {
+        int end = i + 1;
+        while (end < s.length() && !separators.matches(s.charAt(end))) {
+          end++;
+        }
+        appendWord(builder, s, i, end, capitalize);
+        capitalize = true;
+        i = end;
+      }
+    }
+    return builder;
+  }
+
+  /**
+   * Appends the word in the range {@code [from, to)} of {@code s} to {@code builder}, with its
+   * first character in upper case if {@code capitalize} and all the others in lower case.
+   */
+  static StringBuilder appendWord(final StringBuilder builder, final CharSequence s,
+      final int from, final int to, final boolean capitalize) {
+    if (from < to) {
+      final char c = s.charAt(from);
+      builder.append(capitalize ? Character.toUpperCase(c) : Character.toLowerCase(c));
+      for (int i = from + 1; i < to; i++) {
+        builder.append(Character.toLowerCase(s.charAt(i)));
+      }
+    }
+    return builder;
+  }
+
+  /**
+   * Returns the ratio of the calls to {@link #convert(String)} with a cacheable string which found
+   * the result in the cache.
+   *
+   * @return the hit rate of the cache, between {@code 0.0} and {@code 1.0}
+   */
+  public double hitRate() {
+    return cache.stats().hitRate();
+  }
+}
@@ -0,0 +1,213 @@
+package com.github.mforoni.jbasic;
+
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * An immutable set of characters, tested with a single lookup in a precomputed table of 65536
+ * bits.
+ * <p>
+ * Classes are built from explicit characters or ranges and combined with
+ * {@link #union(CharClass)}, {@link #intersection(CharClass)} and {@link #negate()}; the bulk
+ * methods {@link #indexOfAny(CharSequence, int, int)} and
+ * {@link #allMatch(CharSequence, int, int)} scan a range of a {@code CharSequence} once.
+ *
+ * @author Foroni Marco
+ * @see JChars#isVowel(char)
+ * @see JStrings#isISOLatinDigits(String)
+ */
+@Beta
+@Immutable
+public final class CharClass {
+  private static final int WORDS = (Character.MAX_VALUE + 1) >>> 6;
+
+  private final long[] table;
+
+  private CharClass(final long[] table) {
+    this.table = table;
+  }
+
+  /**
+   * Returns a {@code CharClass} made of the given characters.
+   *
+   * @param chars the characters of the class
+   * @return a {@code CharClass} made of the given characters
+   */
+  @Nonnull
+  public static CharClass of(@Nonnull final char... chars) {
+    final long[] table = new long[WORDS];
+    for (final char c : chars) {
+      table[c >>> 6] |= 1L << c;
+    }
+    return new CharClass(table);
+  }
+
+  /**
+   * Returns a {@code CharClass} made of the characters of the given sequence.
+   *
+   * @param chars the characters of the class
+   * @return a {@code CharClass} made of the characters of {@code chars}
+   */
+  @Nonnull
+  public static CharClass anyOf(@Nonnull final CharSequence chars) {
+    final long[] table = new long[WORDS];
+    for (int i = 0; i < chars.length(); i++) {
+      final char c = chars.charAt(i);
+      table[c >>> 6] |= 1L << c;
+    }
+    return new CharClass(table);
+  }
+
+  /**
+   * Returns a {@code CharClass} made of the characters from {@code first} to {@code last}, both
+   * inclusive.
+   *
+   * @param first the first character of the range
+   * @param last the last character of the range
+   * @return a {@code CharClass} made of the characters in the range
+   * @throws IllegalArgumentException if {@code first > last}
+   */
+  @Nonnull
+  public static CharClass inRange(final char first, final char last) {
+    Preconditions.checkArgument(first <= last, "first must be not greater than last");
+    final long[] table = new long[WORDS];
+    for (int c = first; c <= last; c++) {
+      table[c >>> 6] |= 1L << c;
+    }
+    return new CharClass(table);
+  }
+
+  /**
+   * Returns <tt>true</tt> if the character {@code c} belongs to this class.
+   *
+   * @param c the character to check
+   * @return <tt>true</tt> if the character {@code c} belongs to this class
+   */
+  public boolean matches(final char c) {
+    return (table[c >>> 6] & 1L << c) != 0;
+  }
+
+  /**
+   * Returns a {@code CharClass} made of the characters belonging to this class or to
+   * {@code other}.
+   *
+   * @param other the other class
+   * @return the union of this class and {@code other}
+   */
+  @Nonnull
+  public CharClass union(@Nonnull final CharClass other) {
+    final long[] union = new long[WORDS];
+    for (int i = 0; i < WORDS; i++) {
+      union[i] = table[i] | other.table[i];
+    }
+    return new CharClass(union);
+  }
+
+  /**
+   * Returns a {@code CharClass} made of the characters belonging both to this class and to
+   * {@code other}.
+   *
+   * @param other the other class
+   * @return the intersection of this class and {@code other}
+   */
+  @Nonnull
+  public CharClass intersection(@Nonnull final CharClass other) {
+    final long[] intersection = new long[WORDS];
+    for (int i = 0; i < WORDS; i++) {
+      intersection[i] = table[i] & other.table[i];
+    }
+    return new CharClass(intersection);
+  }
+
+  /**
+   * Returns a {@code CharClass} made of the characters not belonging to this class.
+   *
+   * @return the complement of this class
+   */
+  @Nonnull
+  public CharClass negate() {
+    final long[] complement = new long[WORDS];
+    for (int i = 0; i < WORDS; i++) {
+      complement[i] = ~table[i];
+    }
+    return new CharClass(complement);
+  }
+
+  /**
+   * Returns the index of the first character of {@code s} belonging to this class, or <tt>-1</tt>
+   * if there is none.
+   *
+   * @param s the sequence to scan
+   * @return the index of the first character belonging to this class, or <tt>-1</tt>
+   * @see #indexOfAny(CharSequence, int, int)
+   */
+  public int indexOfAny(@Nonnull final CharSequence s) {
+    return indexOfAny(s, 0, s.length());
+  }
+
+  /**
+   * Returns the index of the first character belonging to this class in the range
+   * {@code [fromIndex, toIndex)} of {@code s}, or <tt>-1</tt> if there is none.
+   *
+   * @param s the sequence to scan
+   * @param fromIndex the index of the first character to check, inclusive
+   * @param toIndex the index of the last character to check, exclusive
+   * @return the index of the first character belonging to this class, or <tt>-1</tt>
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  public int indexOfAny(@Nonnull final CharSequence s, final int fromIndex, final int toIndex) {
+    Preconditions.checkPositionIndexes(fromIndex, toIndex, s.length());
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (matches(s.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns <tt>true</tt> if all the characters of {@code s} belong to this class, in particular
+   * if {@code s} is empty.
+   *
+   * @param s the sequence to scan
+   * @return <tt>true</tt> if all the characters of {@code s} belong to this class
+   * @see #allMatch(CharSequence, int, int)
+   */
+  public boolean allMatch(@Nonnull final CharSequence s) {
+    return allMatch(s, 0, s.length());
+  }
+
+  /**
+   * Returns <tt>true</tt> if all the characters in the range {@code [fromIndex, toIndex)} of
+   * {@code s} belong to this class, in particular if the range is empty.
+   *
+   * @param s the sequence to scan
+   * @param fromIndex the index of the first character to check, inclusive
+   * @param toIndex the index of the last character to check, exclusive
+   * @return <tt>true</tt> if all the characters in the range belong to this class
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  public boolean allMatch(@Nonnull final CharSequence s, final int fromIndex, final int toIndex) {
+    Preconditions.checkPositionIndexes(fromIndex, toIndex, s.length());
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (!matches(s.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean equals(@Nullable final Object obj) {
+    return this == obj || obj instanceof CharClass && Arrays.equals(table, ((CharClass) obj).table);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(table);
+  }
+}
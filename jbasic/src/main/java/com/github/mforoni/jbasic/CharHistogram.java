@@ -0,0 +1,186 @@
+package com.github.mforoni.jbasic;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * Counts the occurrences of a set of characters in a single pass over the input, whatever the
+ * number of characters to count.
+ * <p>
+ * Each character to count is assigned a counter through a direct-indexed table: a table of 128
+ * entries when all the characters are ASCII, so that any other character is skipped with a single
+ * comparison, or a two-level table covering the whole Basic Multilingual Plane, whose unused pages
+ * are shared.
+ *
+ * @author Foroni Marco
+ * @see JStrings#occurrences(String, char[])
+ */
+@Beta
+@Immutable
+public final class CharHistogram {
+  private static final int PAGE_BITS = 8;
+  private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+  private static final int[] EMPTY_PAGE = new int[1 << PAGE_BITS];
+
+  private final char[] chars;
+  // the counter + 1 of each character to count, 0 for the other characters
+  private final int[] ascii = new int[128];
+  private final int[][] pages;
+  private final boolean asciiOnly;
+  private final int counters;
+
+  private CharHistogram(final char[] chars) {
+    this.chars = chars;
+    boolean asciiOnly = true;
+    for (final char c : chars) {
+      asciiOnly &= c < 128;
+    }
+    this.asciiOnly = asciiOnly;
+    pages = new int[(Character.MAX_VALUE + 1) >>> PAGE_BITS][];
+    Arrays.fill(pages, EMPTY_PAGE);
+    int counters = 0;
+    for (final char c : chars) {
+      if (counter(c) == -1) {
+        counters++;
+        if (c < 128) {
+          ascii[c] = counters;
+        }
+        if (!asciiOnly) {
+          int[] page = pages[c >>> PAGE_BITS];
+          if (page == EMPTY_PAGE) {
+            page = new int[1 << PAGE_BITS];
+            pages[c >>> PAGE_BITS] = page;
+          }
+          page[c & PAGE_MASK] = counters;
+        }
+      }
+    }
+    this.counters = counters;
+  }
+
+  /**
+   * Returns a new {@code CharHistogram} counting the given characters.
+   *
+   * @param chars the characters to count
+   * @return a new {@code CharHistogram} counting the given characters
+   */
+  @Nonnull
+  public static CharHistogram of(@Nonnull final char... chars) {
+    return new CharHistogram(chars.clone());
+  }
+
+  private int counter(final char c) {
+    if (c < 128) {
+      return ascii[c] - 1;
+    }
+    return asciiOnly ? -1 : pages[c >>> PAGE_BITS][c & PAGE_MASK] - 1;
+  }
+
+  /**
+   * Returns the number of occurrences of the characters to count in the given sequence.
+   *
+   * @param s the sequence to scan
+   * @return an array of {@code int} where array[i] = occurrences of the i-th character to count
+   */
+  @Nonnull
+  public int[] count(@Nonnull final CharSequence s) {
+    final int[] counts = new int[counters];
+    add(s, counts);
+    return expand(counts);
+  }
+
+  /**
+   * Returns the number of occurrences of the characters to count in the range {@code [from, to)}
+   * of the given array.
+   *
+   * @param a the array to scan
+   * @param from the index of the first character to scan, inclusive
+   * @param to the index of the last character to scan, exclusive
+   * @return an array of {@code int} where array[i] = occurrences of the i-th character to count
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  @Nonnull
+  public int[] count(@Nonnull final char[] a, final int from, final int to) {
+    Preconditions.checkPositionIndexes(from, to, a.length);
+    final int[] counts = new int[counters];
+    add(a, from, to, counts);
+    return expand(counts);
+  }
+
+  /**
+   * Returns the number of occurrences of the characters to count in all the given lines, for
+   * example the lines of a file.
+   *
+   * @param lines the lines to scan
+   * @return an array of {@code int} where array[i] = occurrences of the i-th character to count
+   */
+  @Nonnull
+  public int[] count(@Nonnull final Iterable<? extends CharSequence> lines) {
+    final int[] counts = new int[counters];
+    for (final CharSequence line : lines) {
+      add(line, counts);
+    }
+    return expand(counts);
+  }
+
+  /**
+   * Returns the number of occurrences of the characters to count in all the characters read from
+   * the given {@link Reader}, without keeping them in memory. The reader is not closed.
+   *
+   * @param reader the reader to scan
+   * @return an array of {@code int} where array[i] = occurrences of the i-th character to count
+   * @throws IOException if an I/O error occurs
+   */
+  @Nonnull
+  public int[] count(@Nonnull final Reader reader) throws IOException {
+    final int[] counts = new int[counters];
+    final char[] buffer = new char[8192];
+    int read;
+    while ((read = reader.read(buffer)) != -1) {
+      add(buffer, 0, read, counts);
+    }
+    return expand(counts);
+  }
+
+  private void add(final CharSequence s, final int[] counts) {
+    if (s instanceof CharBuffer && ((CharBuffer) s).hasArray()) {
+      final CharBuffer buffer = (CharBuffer) s;
+      final int from = buffer.arrayOffset() + buffer.position();
+      add(buffer.array(), from, from + buffer.remaining(), counts);
+      return;
+    }
+    for (int i = 0; i < s.length(); i++) {
+      final int counter = counter(s.charAt(i));
+      if (counter != -1) {
+        counts[counter]++;
+      }
+    }
+  }
+
+  private void add(final char[] a, final int from, final int to, final int[] counts) {
+    for (int i = from; i < to; i++) {
+      final int counter = counter(a[i]);
+      if (counter != -1) {
+        counts[counter]++;
+      }
+    }
+  }
+
+  /**
+   * Maps the counts of the distinct characters to the positions of the characters to count, which
+   * can contain duplicates.
+   */
+  private int[] expand(final int[] counts) {
+    final int[] expanded = new int[chars.length];
+    for (int i = 0; i < chars.length; i++) {
+      expanded[i] = counts[counter(chars[i])];
+    }
+    return expanded;
+  }
+}
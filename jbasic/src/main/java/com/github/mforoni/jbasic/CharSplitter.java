@@ -0,0 +1,176 @@
+package com.github.mforoni.jbasic;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * Splits character sequences around any of a set of separator characters, without using regular
+ * expressions.
+ * <p>
+ * The separators are stored in a {@link CharClass}, so that each character of the input is checked
+ * with a single table lookup and the input is scanned once.
+ *
+ * @author Foroni Marco
+ * @see JStrings#split(String, char[])
+ */
+@Beta
+@Immutable
+public final class CharSplitter {
+  private final CharClass separators;
+
+  private CharSplitter(final CharClass separators) {
+    this.separators = separators;
+  }
+
+  /**
+   * Returns a new {@code CharSplitter} splitting around each of the given characters.
+   *
+   * @param separators the separator characters
+   * @return a new {@code CharSplitter}
+   * @throws IllegalArgumentException if no separator is specified
+   */
+  @Nonnull
+  public static CharSplitter on(@Nonnull final char... separators) {
+    Preconditions.checkArgument(separators.length > 0, "At least one separator is required");
+    return new CharSplitter(CharClass.of(separators));
+  }
+
+  /**
+   * Returns <tt>true</tt> if the character {@code c} is one of the separators of this splitter.
+   *
+   * @param c the character to check
+   * @return <tt>true</tt> if the character {@code c} is a separator
+   */
+  public boolean isSeparator(final char c) {
+    return separators.matches(c);
+  }
+
+  /**
+   * Splits the given sequence {@code s} around the separators of this splitter, with the same
+   * result of {@link String#split(String)} called with a character class of the separators: the
+   * trailing empty strings are not included.
+   *
+   * @param s the sequence to split
+   * @return the array of strings computed by splitting {@code s}
+   */
+  @Nonnull
+  public String[] split(@Nonnull final CharSequence s) {
+    final List<String> tokens = new ArrayList<>();
+    int start = 0;
+    for (int i = 0; i < s.length(); i++) {
+      if (isSeparator(s.charAt(i))) {
+        tokens.add(s.subSequence(start, i).toString());
+        start = i + 1;
+      }
+    }
+    if (tokens.isEmpty()) {
+      return new String[] {s.toString()};
+    }
+    if (start < s.length()) {
+      tokens.add(s.subSequence(start, s.length()).toString());
+    }
+    // removes the trailing empty strings, as String.split does
+    int size = tokens.size();
+    while (size > 0 && tokens.get(size - 1).isEmpty()) {
+      size--;
+    }
+    return tokens.subList(0, size).toArray(new String[size]);
+  }
+
+  /**
+   * Returns the fields of the given sequence {@code s} delimited by the separators of this
+   * splitter, including the empty ones, as views over {@code s}.
+   * <p>
+   * No character is copied: each iterator returns always the same mutable {@code CharSequence},
+   * moved over the next field at each call of {@link Iterator#next()}. Call
+   * {@link CharSequence#toString()} to keep a field beyond the following call.
+   *
+   * @param s the sequence to split
+   * @return an {@code Iterable} over the fields of {@code s}
+   */
+  @Nonnull
+  public Iterable<CharSequence> slices(@Nonnull final CharSequence s) {
+    Preconditions.checkNotNull(s);
+    return new Iterable<CharSequence>() {
+      @Override
+      public Iterator<CharSequence> iterator() {
+        return new SliceIterator(s);
+      }
+    };
+  }
+
+  private final class SliceIterator implements Iterator<CharSequence> {
+    private final Slice slice;
+    private int next;
+
+    private SliceIterator(final CharSequence s) {
+      slice = new Slice(s);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next <= slice.s.length();
+    }
+
+    @Override
+    public CharSequence next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int end = next;
+      while (end < slice.s.length() && !isSeparator(slice.s.charAt(end))) {
+        end++;
+      }
+      slice.start = next;
+      slice.end = end;
+      next = end + 1;
+      return slice;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /**
+   * A mutable view over the range {@code [start, end)} of a {@code CharSequence}.
+   */
+  private static final class Slice implements CharSequence {
+    private final CharSequence s;
+    private int start;
+    private int end;
+
+    private Slice(final CharSequence s) {
+      this.s = s;
+    }
+
+    @Override
+    public int length() {
+      return end - start;
+    }
+
+    @Override
+    public char charAt(final int index) {
+      Preconditions.checkElementIndex(index, end - start);
+      return s.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int from, final int to) {
+      Preconditions.checkPositionIndexes(from, to, end - start);
+      return s.subSequence(start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+      return s.subSequence(start, end).toString();
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.github.mforoni.jbasic;
+
+import java.util.Arrays;
+import java.util.Collection;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * An immutable sequence of strings, built once, which can be searched ignoring case in constant
+ * time.
+ * <p>
+ * Two strings are equal ignoring case under the same rules of
+ * {@link String#equalsIgnoreCase(String)}. The hash code of each string is computed once on its
+ * case-folded characters and kept in an open addressing table, so that a lookup folds the
+ * characters of the key while hashing them, without creating a lower case copy of it.
+ *
+ * @author Foroni Marco
+ * @see String#equalsIgnoreCase(String)
+ */
+@Beta
+@Immutable
+public final class IgnoreCaseStringSet {
+  private final String[] strings;
+  // index + 1 of the first string having each folded hash, 0 marks an empty slot
+  private final int[] slots;
+  private final int[] hashes;
+
+  private IgnoreCaseStringSet(final String[] strings) {
+    this.strings = strings;
+    hashes = new int[strings.length];
+    int capacity = 4;
+    while (capacity < strings.length * 2) {
+      capacity <<= 1;
+    }
+    slots = new int[capacity];
+    final int mask = capacity - 1;
+    for (int i = 0; i < strings.length; i++) {
+      Preconditions.checkNotNull(strings[i], "The strings cannot be null");
+      hashes[i] = hash(strings[i]);
+      int slot = spread(hashes[i]) & mask;
+      boolean duplicate = false;
+      while (slots[slot] != 0) {
+        final int j = slots[slot] - 1;
+        if (hashes[j] == hashes[i] && strings[j].equalsIgnoreCase(strings[i])) {
+          duplicate = true;
+          break;
+        }
+        slot = (slot + 1) & mask;
+      }
+      if (!duplicate) {
+        slots[slot] = i + 1;
+      }
+    }
+  }
+
+  /**
+   * Returns a new {@code IgnoreCaseStringSet} of the given strings.
+   *
+   * @param strings the strings, in the order used by {@link #indexOf(CharSequence)}
+   * @return a new {@code IgnoreCaseStringSet} of the given strings
+   */
+  @Nonnull
+  public static IgnoreCaseStringSet of(@Nonnull final String... strings) {
+    return new IgnoreCaseStringSet(Arrays.copyOf(strings, strings.length));
+  }
+
+  /**
+   * Returns a new {@code IgnoreCaseStringSet} of the strings of the given {@link Collection}.
+   *
+   * @param collection the strings, in the order used by {@link #indexOf(CharSequence)}
+   * @return a new {@code IgnoreCaseStringSet} of the given strings
+   */
+  @Nonnull
+  public static IgnoreCaseStringSet copyOf(@Nonnull final Collection<String> collection) {
+    return new IgnoreCaseStringSet(collection.toArray(new String[collection.size()]));
+  }
+
+  /**
+   * Returns the number of strings, duplicates included.
+   *
+   * @return the number of strings
+   */
+  public int size() {
+    return strings.length;
+  }
+
+  /**
+   * Returns the string at the specified position.
+   *
+   * @param index the index of the string
+   * @return the string at the specified position
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  @Nonnull
+  public String get(final int index) {
+    return strings[index];
+  }
+
+  /**
+   * Returns <tt>true</tt> if this set contains a string equal ignoring case to {@code key}.
+   *
+   * @param key the key to search
+   * @return <tt>true</tt> if this set contains a string equal ignoring case to {@code key}
+   */
+  public boolean contains(@Nullable final CharSequence key) {
+    return indexOf(key) != -1;
+  }
+
+  /**
+   * Returns the index of the first string equal ignoring case to {@code key}, or <tt>-1</tt> if
+   * there is none.
+   *
+   * @param key the key to search
+   * @return the index of the first string equal ignoring case to {@code key}, or <tt>-1</tt>
+   */
+  public int indexOf(@Nullable final CharSequence key) {
+    if (key == null) {
+      return -1;
+    }
+    final int hash = hash(key);
+    final int mask = slots.length - 1;
+    for (int slot = spread(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+      final int i = slots[slot] - 1;
+      if (hashes[i] == hash && equalsIgnoreCase(strings[i], key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int hash(final CharSequence s) {
+    int hash = 0;
+    for (int i = 0; i < s.length(); i++) {
+      hash = 31 * hash + fold(s.charAt(i));
+    }
+    return hash;
+  }
+
+  private static int spread(final int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private static boolean equalsIgnoreCase(final String s, final CharSequence key) {
+    if (s.length() != key.length()) {
+      return false;
+    }
+    for (int i = 0; i < s.length(); i++) {
+      final char c1 = s.charAt(i);
+      final char c2 = key.charAt(i);
+      if (c1 != c2 && fold(c1) != fold(c2)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Folds the case of {@code c} as {@link String#equalsIgnoreCase(String)} does: two characters
+   * are equal ignoring case if and only if their folded values are equal.
+   */
+  static char fold(final char c) {
+    if (c < 0x80) {
+      return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+}
@@ -98,11 +98,13 @@ public final class JArrays {
    * @param fromIndex a starting index
    * @return the index of the string {@code key} in the given {@code array} if {@code key} occurs in
    *         a position not lesser than {@code fromIndex}
+   * @see String#equalsIgnoreCase(String)
+   * @see IgnoreCaseStringSet
    */
   public static int indexOfIgnoreCase(@Nonnull final String[] array, @Nullable final String key,
       final int fromIndex) {
     for (int i = fromIndex; i < array.length; i++) {
-      if (Objects.equals(array[i], key)) {
+      if (key == null ? array[i] == null : key.equalsIgnoreCase(array[i])) {
         return i;
       }
     }
@@ -12,6 +12,10 @@ public final class JChars {
   public static final String VOWELS = "aeiouAEIOU";
   /** The Constant CONSONANTS. */
   public static final String CONSONANTS = "bcdfghjklmnpqrstvwxyzBCDFGHJKLMNPQRSTVWXYZ";
+  /** The {@link CharClass} of the {@link #VOWELS}. */
+  public static final CharClass VOWEL_CLASS = CharClass.anyOf(VOWELS);
+  /** The {@link CharClass} of the {@link #CONSONANTS}. */
+  public static final CharClass CONSONANT_CLASS = CharClass.anyOf(CONSONANTS);
 
   // Suppresses default constructor, ensuring non-instantiability.
   private JChars() {
@@ -42,7 +46,7 @@ public final class JChars {
    * @return <tt>true</tt> iff the character is a vowel.
    */
   public static boolean isVowel(final char ch) {
-    return JStrings.contains(VOWELS, ch);
+    return VOWEL_CLASS.matches(ch);
   }
 
   /**
@@ -52,6 +56,6 @@ public final class JChars {
    * @return <tt>true</tt> iff the character is a consonant.
    */
   public static boolean isConsonant(final char ch) {
-    return JStrings.contains(CONSONANTS, ch);
+    return CONSONANT_CLASS.matches(ch);
   }
 }
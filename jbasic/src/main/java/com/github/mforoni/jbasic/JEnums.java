@@ -1,6 +1,7 @@
 package com.github.mforoni.jbasic;
 
 import java.lang.reflect.Array;
+import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import com.google.common.annotations.Beta;
 import com.google.common.base.Optional;
@@ -12,6 +13,10 @@ import com.google.common.base.Optional;
  * @see Enum
  */
 public final class JEnums {
+  private static final Pattern PUNCTUATION_EXCEPT_UNDERSCORE =
+      Pattern.compile("[\\p{Punct}&&[^_]]+");
+  private static final Pattern SPACES = Pattern.compile("\\s+");
+
   // Suppresses default constructor, ensuring non-instantiability.
   private JEnums() {
     throw new AssertionError();
@@ -88,6 +93,7 @@ public final class JEnums {
   public static <E extends Enum<E>> E conventionalValueOf(@Nonnull final Class<E> enumClass,
       @Nonnull final String name) {
     return Enum.valueOf(enumClass,
-        name.toUpperCase().replaceAll("[\\p{Punct}&&[^_]]+", "").replaceAll("\\s+", "_"));
+        SPACES.matcher(PUNCTUATION_EXCEPT_UNDERSCORE.matcher(name.toUpperCase()).replaceAll(""))
+            .replaceAll("_"));
   }
 }
@@ -2,7 +2,6 @@ package com.github.mforoni.jbasic;
 
 import javax.annotation.Nullable;
 import com.google.common.base.Function;
-import com.google.common.primitives.Ints;
 
 /**
  * Provides {@code static} utility members for converting objects between different types.
@@ -29,16 +28,78 @@ public final class JFunctions {
     }
   };
   /**
-   * Converts a {@code String} to an {@code Integer} performing {@link Ints#tryParse(String)}.
+   * Converts a {@code String} to an {@code Integer} with the same result of
+   * {@link com.google.common.primitives.Ints#tryParse(String)}.
    * 
    * @see Function
+   * @see NumberParser
    */
   public static final Function<String, Integer> STRING_TO_INTEGER =
       new Function<String, Integer>() {
         @Nullable
         @Override
         public Integer apply(@Nullable final String s) {
-          return s != null ? Ints.tryParse(s) : null;
+          return CHAR_SEQUENCE_TO_INTEGER.apply(s);
+        }
+      };
+  /**
+   * Converts a {@code CharSequence} to an {@code Integer} performing
+   * {@link NumberParser#parseInt(CharSequence)}, without creating intermediate strings: returns
+   * <tt>null</tt> if the sequence is not a valid {@code int}.
+   * 
+   * @see Function
+   */
+  public static final Function<CharSequence, Integer> CHAR_SEQUENCE_TO_INTEGER =
+      new Function<CharSequence, Integer>() {
+        @Nullable
+        @Override
+        public Integer apply(@Nullable final CharSequence s) {
+          if (s == null) {
+            return null;
+          }
+          final NumberParser parser = NumberParser.get();
+          final int value = parser.parseInt(s);
+          return parser.status() == NumberParser.Status.OK ? value : null;
+        }
+      };
+  /**
+   * Converts a {@code CharSequence} to a {@code Long} performing
+   * {@link NumberParser#parseLong(CharSequence)}, without creating intermediate strings: returns
+   * <tt>null</tt> if the sequence is not a valid {@code long}.
+   * 
+   * @see Function
+   */
+  public static final Function<CharSequence, Long> CHAR_SEQUENCE_TO_LONG =
+      new Function<CharSequence, Long>() {
+        @Nullable
+        @Override
+        public Long apply(@Nullable final CharSequence s) {
+          if (s == null) {
+            return null;
+          }
+          final NumberParser parser = NumberParser.get();
+          final long value = parser.parseLong(s);
+          return parser.status() == NumberParser.Status.OK ? value : null;
+        }
+      };
+  /**
+   * Converts a {@code CharSequence} to a {@code Double} performing
+   * {@link NumberParser#parseDouble(CharSequence)}, without creating intermediate strings: returns
+   * <tt>null</tt> if the sequence is not a valid {@code double}.
+   * 
+   * @see Function
+   */
+  public static final Function<CharSequence, Double> CHAR_SEQUENCE_TO_DOUBLE =
+      new Function<CharSequence, Double>() {
+        @Nullable
+        @Override
+        public Double apply(@Nullable final CharSequence s) {
+          if (s == null) {
+            return null;
+          }
+          final NumberParser parser = NumberParser.get();
+          final double value = parser.parseDouble(s);
+          return parser.status() == NumberParser.Status.OK ? value : null;
         }
       };
   /**
@@ -58,6 +58,7 @@ public final class JLists {
    * @param fromIndex the starting index
    * @return the index of the first case-insensitive occurrence of the specified element in this
    *         list starting from the given index, or {@code -1} if no match is found.
+   * @see IgnoreCaseStringSet
    */
   public static int indexOfIgnoreCase(@Nonnull final List<String> list, @Nonnull final String key,
       final int fromIndex) {
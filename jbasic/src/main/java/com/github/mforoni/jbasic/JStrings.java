@@ -1,13 +1,20 @@
 package com.github.mforoni.jbasic;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import com.google.common.annotations.Beta;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Preconditions;
@@ -16,7 +23,6 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.primitives.Chars;
 import info.debatty.java.stringsimilarity.Levenshtein;
 import info.debatty.java.stringsimilarity.interfaces.MetricStringDistance;
-import ru.lanwen.verbalregex.VerbalExpression;
 
 /**
  * Provides {@code static} utility methods for manipulating {@code String} objects.
@@ -32,6 +38,20 @@ public final class JStrings {
   public static final String ISO_BASIC_LATIN_ALPHABET_REGEX = "[A-Za-z]+";
   public static final String NOT_ISO_LATIN_ALPHABET_OR_DIGITS_REGEX = "[^A-Za-z0-9]";
   public static final String CONSECUTIVE_SPACES_REGEX = "\\s+";
+  private static final CharClass ISO_LATIN_1_DIGITS = CharClass.inRange('0', '9');
+  private static final CharClass ISO_BASIC_LATIN_ALPHABET =
+      CharClass.inRange('A', 'Z').union(CharClass.inRange('a', 'z'));
+  private static final int DEFAULT_REUSED_CAPACITY = 256;
+  private static final int MAX_REUSED_CAPACITY = 1 << 16;
+  private static final ThreadLocal<StringBuilder> REUSABLE_BUILDER =
+      new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+          return new StringBuilder(DEFAULT_REUSED_CAPACITY);
+        }
+      };
+  private static final StringNormalizer SPACES_COLLAPSER =
+      StringNormalizer.create().collapseWhitespace();
 
   // Suppresses default constructor, ensuring non-instantiability.
   private JStrings() {
@@ -57,31 +77,46 @@ public final class JStrings {
   /**
    * Finds the similar strings in the specified {@link Collection} having minimum
    * {@link Levenshtein} distance from the given {@code key}.
+   * <p>
+   * The distance is computed by a {@link BoundedLevenshtein} bounded by the minimum found so far.
    * 
    * @param key the string to search in the {@code Collection}
    * @param collection the {@code Collection} of strings
    * @return a {@code Set} of strings having minimum {@link Levenshtein} distance from the given
    *         {@code key}
    * @see Levenshtein
+   * @see BoundedLevenshtein
    */
   @Nonnull
   public static Set<String> similars(final String key, final Collection<String> collection) {
-    return similars(key, collection, new Levenshtein());
+    return similars(key, collection, new BoundedLevenshtein());
   }
 
   /**
    * Finds the similar strings in the specified {@link Collection} having minimum
    * {@link MetricStringDistance} distance from the given {@code key}.
+   * <p>
+   * If the given distance is a {@link BoundedStringDistance}, or exactly a {@link Levenshtein}, the
+   * minimum distance found so far is used as threshold for the next computations. A
+   * {@link MyersLevenshtein} can be given to compute the {@code Levenshtein} distance with the
+   * bit-parallel algorithm, which is faster on short strings.
    * 
    * @param key the string to search in the {@code collection}
    * @param collection the {@code Collection} of strings
    * @return a {@code Set} of strings having minimum {@link MetricStringDistance} distance from the
    *         given {@code key}
    * @see MetricStringDistance
+   * @see BoundedStringDistance
+   * @see MyersLevenshtein
+   * @see SimilarityIndex
    */
   @Nonnull
   public static Set<String> similars(final String key, final Collection<String> collection,
       final MetricStringDistance metricStringDistance) {
+    final BoundedStringDistance boundedStringDistance = asBounded(metricStringDistance);
+    if (boundedStringDistance != null) {
+      return similars(key, collection, boundedStringDistance);
+    }
     final Set<String> similars = new HashSet<>();
     double min = Double.MAX_VALUE;
     for (final String s : collection) {
@@ -97,6 +132,175 @@ public final class JStrings {
     return similars;
   }
 
+  private static Set<String> similars(final String key, final Collection<String> collection,
+      final BoundedStringDistance boundedStringDistance) {
+    final Set<String> similars = new HashSet<>();
+    int min = Integer.MAX_VALUE;
+    for (final String s : collection) {
+      final int distance = boundedStringDistance.distance(s, key, min);
+      if (distance == -1) {
+        continue;
+      }
+      if (distance < min) {
+        min = distance;
+        similars.clear();
+        similars.add(s);
+      } else if (distance == min) {
+        similars.add(s);
+      }
+    }
+    return similars;
+  }
+
+  /**
+   * Returns the {@code k} strings in the specified {@link Collection} nearest to the given
+   * {@code key} according to the {@link Levenshtein} distance.
+   * 
+   * @param key the string to search in the {@code Collection}
+   * @param collection the {@code Collection} of strings
+   * @param k the maximum number of strings to return
+   * @return a {@code List} of at most {@code k} distinct strings with their distance from the given
+   *         {@code key}, ordered as specified by {@link ScoredString#compareTo(ScoredString)}
+   * @see #topSimilars(String, Collection, int, MetricStringDistance)
+   */
+  @Nonnull
+  public static List<ScoredString> topSimilars(final String key,
+      final Collection<String> collection, final int k) {
+    return topSimilars(key, collection, k, new BoundedLevenshtein());
+  }
+
+  /**
+   * Returns the {@code k} strings in the specified {@link Collection} nearest to the given
+   * {@code key} according to the specified {@link MetricStringDistance}. Strings having the same
+   * distance are ranked by their natural ordering.
+   * <p>
+   * The best strings found so far are kept in a heap of size {@code k}. If the given distance is a
+   * {@link BoundedStringDistance}, or exactly a {@link Levenshtein}, the distance of the worst of
+   * them is used as threshold, so that the strings which cannot enter the ranking are discarded
+   * early and without any allocation.
+   * 
+   * @param key the string to search in the {@code Collection}
+   * @param collection the {@code Collection} of strings
+   * @param k the maximum number of strings to return
+   * @param metricStringDistance the {@code MetricStringDistance} to use
+   * @return a {@code List} of at most {@code k} distinct strings with their distance from the given
+   *         {@code key}, ordered as specified by {@link ScoredString#compareTo(ScoredString)}
+   * @throws IllegalArgumentException if {@code k} is negative
+   * @see ScoredString
+   */
+  @Nonnull
+  public static List<ScoredString> topSimilars(final String key,
+      final Collection<String> collection, final int k,
+      final MetricStringDistance metricStringDistance) {
+    Preconditions.checkArgument(k >= 0, "k cannot be negative");
+    final List<ScoredString> top = new ArrayList<>(Math.min(k, collection.size()));
+    if (k == 0) {
+      return top;
+    }
+    final BoundedStringDistance boundedStringDistance = asBounded(metricStringDistance);
+    final PriorityQueue<ScoredString> heap =
+        new PriorityQueue<>(k, Collections.reverseOrder());
+    // the strings in the heap, to skip the duplicates without scanning it
+    final Set<String> inHeap = new HashSet<>();
+    for (final String s : collection) {
+      final ScoredString worst = heap.size() == k ? heap.peek() : null;
+      final double distance;
+      if (boundedStringDistance != null) {
+        final int threshold = worst == null ? Integer.MAX_VALUE : (int) worst.getDistance();
+        distance = boundedStringDistance.distance(s, key, threshold);
+        if (distance == -1) {
+          continue;
+        }
+      } else {
+        distance = metricStringDistance.distance(s, key);
+      }
+      if (worst != null && (distance > worst.getDistance()
+          || distance == worst.getDistance() && s.compareTo(worst.getString()) >= 0)) {
+        continue;
+      }
+      if (!inHeap.add(s)) {
+        continue;
+      }
+      if (worst != null) {
+        inHeap.remove(heap.poll().getString());
+      }
+      heap.offer(new ScoredString(s, distance));
+    }
+    top.addAll(heap);
+    Collections.sort(top);
+    return top;
+  }
+
+  /**
+   * Returns the {@link BoundedStringDistance} equivalent to the given {@link MetricStringDistance},
+   * or <tt>null</tt> if there is none.
+   */
+  @Nullable
+  static BoundedStringDistance asBounded(@Nonnull final MetricStringDistance metricStringDistance) {
+    if (metricStringDistance instanceof BoundedStringDistance) {
+      return (BoundedStringDistance) metricStringDistance;
+    } else if (metricStringDistance.getClass() == Levenshtein.class) {
+      return new BoundedLevenshtein();
+    }
+    return null;
+  }
+
+  /**
+   * Finds, using multiple threads, the similar strings in the specified {@link Collection} having
+   * minimum {@link Levenshtein} distance from the given {@code key}.
+   * 
+   * @param key the string to search in the {@code Collection}
+   * @param collection the {@code Collection} of strings
+   * @return a {@code Set} of strings having minimum {@link Levenshtein} distance from the given
+   *         {@code key}
+   * @see #parallelSimilars(String, Collection, MetricStringDistance, ForkJoinPool)
+   */
+  @Nonnull
+  public static Set<String> parallelSimilars(final String key,
+      final Collection<String> collection) {
+    return parallelSimilars(key, collection, new BoundedLevenshtein());
+  }
+
+  /**
+   * Finds, using multiple threads, the similar strings in the specified {@link Collection} having
+   * minimum {@link MetricStringDistance} distance from the given {@code key}.
+   * 
+   * @param key the string to search in the {@code Collection}
+   * @param collection the {@code Collection} of strings
+   * @param metricStringDistance a thread-safe {@code MetricStringDistance}
+   * @return a {@code Set} of strings having minimum {@link MetricStringDistance} distance from the
+   *         given {@code key}
+   * @see #parallelSimilars(String, Collection, MetricStringDistance, ForkJoinPool)
+   */
+  @Nonnull
+  public static Set<String> parallelSimilars(final String key, final Collection<String> collection,
+      final MetricStringDistance metricStringDistance) {
+    return parallelSimilars(key, collection, metricStringDistance, ParallelSimilars.pool());
+  }
+
+  /**
+   * Finds the similar strings in the specified {@link Collection} having minimum
+   * {@link MetricStringDistance} distance from the given {@code key}, splitting the collection in
+   * tasks executed by the given {@link ForkJoinPool}.
+   * <p>
+   * The tasks share the minimum distance found so far, so that each of them can discard the
+   * strings which cannot be similars. The result is the same of
+   * {@link #similars(String, Collection, MetricStringDistance)}.
+   * 
+   * @param key the string to search in the {@code Collection}
+   * @param collection the {@code Collection} of strings
+   * @param metricStringDistance a thread-safe {@code MetricStringDistance}
+   * @param pool the {@code ForkJoinPool} executing the search
+   * @return a {@code Set} of strings having minimum {@link MetricStringDistance} distance from the
+   *         given {@code key}
+   * @see ForkJoinPool
+   */
+  @Nonnull
+  public static Set<String> parallelSimilars(final String key, final Collection<String> collection,
+      final MetricStringDistance metricStringDistance, @Nonnull final ForkJoinPool pool) {
+    return ParallelSimilars.similars(key, collection, metricStringDistance, pool);
+  }
+
   /**
    * Returns a new {@link ImmutableSet} from the specified strings.
    * 
@@ -126,6 +330,22 @@ public final class JStrings {
     return matcher.matches();
   }
 
+  /**
+   * Returns <tt>true</tt> if the given {@code text} matches the specified regular expression,
+   * <tt>false</tt> otherwise. The compiled pattern is taken from {@link PatternCache#shared()}, so
+   * repeated calls with the same {@code regex} compile it only once.
+   * 
+   * @param text the text to match
+   * @param regex the regular expression to be used
+   * @return <tt>true</tt> if the given {@code text} matches the specified {@code regex},
+   *         <tt>false</tt> otherwise.
+   * @throws java.util.regex.PatternSyntaxException if the syntax of {@code regex} is not valid
+   * @see PatternCache#matches(CharSequence, String)
+   */
+  public static boolean matches(@Nonnull final String text, @Nonnull final String regex) {
+    return PatternCache.shared().matches(text, regex);
+  }
+
   /**
    * Returns <tt>true</tt> if and only if {@code key} is equals to {@code first}, or {@code second},
    * or one of the strings in {@code others}, otherwise returns <tt>false</tt>.
@@ -144,22 +364,51 @@ public final class JStrings {
     return newImmutableSet(first, second, others).contains(key);
   }
 
+  /**
+   * Returns <tt>true</tt> if and only if {@code key} is equals ignoring case to {@code first}, or
+   * {@code second}, or one of the strings in {@code others}, otherwise returns <tt>false</tt>.
+   * <p>
+   * No string is allocated: when matching many keys against the same strings, build once an
+   * {@link IgnoreCaseStringSet}.
+   * 
+   * @param key the key to search
+   * @param first the first string
+   * @param second the second string
+   * @param others the other strings
+   * @return <tt>true</tt> if and only if {@code key} is equals ignoring case to {@code first}, or
+   *         {@code second}, or {@code others}
+   * @see String#equalsIgnoreCase(String)
+   * @see IgnoreCaseStringSet
+   */
   @Beta
   public static boolean matchIgnoreCase(@Nonnull final String key, @Nonnull final String first,
       @Nonnull final String second, final String... others) {
-    final Set<String> all = new HashSet<>();
-    all.add(first.toLowerCase());
-    all.add(second.toLowerCase());
+    if (key.equalsIgnoreCase(first) || key.equalsIgnoreCase(second)) {
+      return true;
+    }
     for (final String s : others) {
-      all.add(s.toLowerCase());
+      if (key.equalsIgnoreCase(s)) {
+        return true;
+      }
     }
-    return all.contains(key.toLowerCase());
+    return false;
   }
 
+  /**
+   * Splits the string {@code s} around each of the given {@code separators}. The trailing empty
+   * strings are not included, as done by {@link String#split(String)}.
+   * <p>
+   * Does not use regular expressions: when splitting many strings with the same separators, reuse
+   * the same {@link CharSplitter}.
+   *
+   * @param s the string to split
+   * @param separators the separator characters
+   * @return the array of strings computed by splitting {@code s}
+   * @see CharSplitter
+   */
   @Beta
   public static String[] split(final String s, final char[] separators) {
-    final VerbalExpression regex = VerbalExpression.regex().anyOf(new String(separators)).build();
-    return s.split(regex.toString());
+    return CharSplitter.on(separators).split(s);
   }
 
   @Beta
@@ -169,9 +418,24 @@ public final class JStrings {
     return split(s, separators);
   }
 
+  /**
+   * Splits the given {@code input} around the occurrences of {@code separator} which are not
+   * enclosed in double quotes, as in a <a href="https://tools.ietf.org/html/rfc4180">CSV</a> line.
+   * Escaped quotes ({@code ""}) and empty fields, trailing ones included, are preserved; the fields
+   * are returned as they are, quotes included.
+   * <p>
+   * A separator is enclosed in quotes if it is followed by an odd number of quotes: the input is
+   * scanned once to count the quotes and once to split it, without regular expressions.
+   * 
+   * @param input the string to split
+   * @param separator the separator character
+   * @return the array of fields computed by splitting {@code input}
+   */
   @Beta
   public static String[] splitEscapingQuoted(@Nonnull final String input, final char separator) {
-    return input.split(String.valueOf(separator).concat("(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)"), -1);
+    final List<String> fields = new ArrayList<>();
+    splitEscapingQuoted(input, separator, fields);
+    return fields.toArray(new String[fields.size()]);
   }
 
   @Beta
@@ -179,6 +443,67 @@ public final class JStrings {
     return splitEscapingQuoted(input, ',');
   }
 
+  /**
+   * Splits the given {@code input} as {@link #splitEscapingQuoted(String, char)} does, adding the
+   * fields at the end of the specified {@code List}, which can be reused for many lines.
+   * 
+   * @param input the sequence to split
+   * @param separator the separator character
+   * @param fields the {@code List} where the fields are added
+   * @return the number of fields added
+   * @see #splitEscapingQuoted(String, char)
+   */
+  @Beta
+  public static int splitEscapingQuoted(@Nonnull final CharSequence input, final char separator,
+      @Nonnull final List<? super String> fields) {
+    return splitEscapingQuoted(input, separator, null, fields);
+  }
+
+  /**
+   * Splits the given {@code input} as {@link #splitEscapingQuoted(String, char)} does, writing the
+   * fields in the specified array, which can be reused for many lines. If the array is too short,
+   * the exceeding fields are not written.
+   * 
+   * @param input the sequence to split
+   * @param separator the separator character
+   * @param fields the array where the fields are written, starting from index 0
+   * @return the number of fields of {@code input}, which can be greater than the array length
+   * @see #splitEscapingQuoted(String, char)
+   */
+  @Beta
+  public static int splitEscapingQuoted(@Nonnull final CharSequence input, final char separator,
+      @Nonnull final String[] fields) {
+    return splitEscapingQuoted(input, separator, fields, null);
+  }
+
+  private static int splitEscapingQuoted(final CharSequence input, final char separator,
+      @Nullable final String[] array, @Nullable final List<? super String> list) {
+    int quotesAfter = 0;
+    for (int i = 0; i < input.length(); i++) {
+      if (input.charAt(i) == '"') {
+        quotesAfter++;
+      }
+    }
+    int count = 0;
+    int start = 0;
+    for (int i = 0; i <= input.length(); i++) {
+      final char c = i < input.length() ? input.charAt(i) : separator;
+      if (c == '"') {
+        quotesAfter--;
+      } else if (c == separator && (quotesAfter & 1) == 0) {
+        final String field = input.subSequence(start, i).toString();
+        if (list != null) {
+          list.add(field);
+        } else if (count < array.length) {
+          array[count] = field;
+        }
+        count++;
+        start = i + 1;
+      }
+    }
+    return count;
+  }
+
   /**
    * Returns a new string obtained by concatenating the given string {@code s} with itself the given
    * number of {@code times}, using the specified string as {@code separator}.
@@ -192,7 +517,9 @@ public final class JStrings {
   @Nonnull
   public static String concat(@Nonnull final String s, final int times,
       @Nonnull final String separator) {
-    final StringBuilder sb = new StringBuilder(s);
+    final StringBuilder sb =
+        new StringBuilder(Math.max(0, s.length() * times + separator.length() * (times - 1)));
+    sb.append(s);
     for (int i = 1; i < times; i++) {
       sb.append(separator).append(s);
     }
@@ -210,19 +537,65 @@ public final class JStrings {
   @Nonnull
   public static String concat(@Nonnull final String first, @Nonnull final String second,
       final String... others) {
-    final StringBuilder sb = new StringBuilder(first).append(second);
+    int length = first.length() + second.length();
+    for (final String s : others) {
+      length += s.length();
+    }
+    final StringBuilder sb = new StringBuilder(length).append(first).append(second);
     for (final String s : others) {
       sb.append(s);
     }
     return sb.toString();
   }
 
+  /**
+   * Returns a new string obtained by the concatenation of the strings of the given list.
+   * <p>
+   * To build a very large text incrementally, prefer a {@link Rope}.
+   *
+   * @param strings the strings to concatenate
+   * @return a new string obtained by the concatenation of the given strings
+   * @see Rope
+   */
   public static String concat(@Nonnull final List<String> strings) {
-    final StringBuilder sb = new StringBuilder();
+    int length = 0;
     for (final String s : strings) {
-      sb.append(s);
+      length += s.length();
     }
-    return sb.toString();
+    return concat(new StringBuilder(length), strings).toString();
+  }
+
+  /**
+   * Appends the given sequences to {@code builder}, one after the other.
+   *
+   * @param builder the builder to append to
+   * @param parts the sequences to concatenate
+   * @return {@code builder}
+   */
+  @Nonnull
+  public static StringBuilder concat(@Nonnull final StringBuilder builder,
+      @Nonnull final Iterable<? extends CharSequence> parts) {
+    for (final CharSequence part : parts) {
+      builder.append(part);
+    }
+    return builder;
+  }
+
+  /**
+   * Appends the given sequences to {@code appendable}, one after the other.
+   *
+   * @param appendable the object to append to
+   * @param parts the sequences to concatenate
+   * @return {@code appendable}
+   * @throws IOException if an I/O error occurs
+   */
+  @Nonnull
+  public static <A extends Appendable> A concat(@Nonnull final A appendable,
+      @Nonnull final Iterable<? extends CharSequence> parts) throws IOException {
+    for (final CharSequence part : parts) {
+      appendable.append(part);
+    }
+    return appendable;
   }
 
   /**
@@ -239,8 +612,7 @@ public final class JStrings {
     if (index < 0 || index > s.length()) {
       throw new StringIndexOutOfBoundsException(index);
     }
-    final char c = Character.toLowerCase(s.charAt(index));
-    return s.substring(0, index) + c + s.substring(index + 1);
+    return withCharAt(s, index, Character.toLowerCase(s.charAt(index)));
   }
 
   /**
@@ -268,8 +640,7 @@ public final class JStrings {
     if (index < 0 || index > s.length()) {
       throw new StringIndexOutOfBoundsException(index);
     }
-    final char c = Character.toUpperCase(s.charAt(index));
-    return s.substring(0, index) + c + s.substring(index + 1);
+    return withCharAt(s, index, Character.toUpperCase(s.charAt(index)));
   }
 
   /**
@@ -283,6 +654,83 @@ public final class JStrings {
     return capitalize(s, 0);
   }
 
+  /**
+   * Appends the sequence {@code s} to {@code builder}, with the first character converted in upper
+   * case.
+   *
+   * @param builder the builder to append to
+   * @param s the sequence to append
+   * @return {@code builder}
+   * @throws IndexOutOfBoundsException if {@code s} is empty
+   */
+  @Nonnull
+  public static StringBuilder capitalize(@Nonnull final StringBuilder builder,
+      @Nonnull final CharSequence s) {
+    return builder.append(Character.toUpperCase(s.charAt(0))).append(s, 1, s.length());
+  }
+
+  /**
+   * Appends the sequence {@code s} to {@code appendable}, with the first character converted in
+   * upper case.
+   *
+   * @param appendable the object to append to
+   * @param s the sequence to append
+   * @return {@code appendable}
+   * @throws IndexOutOfBoundsException if {@code s} is empty
+   * @throws IOException if an I/O error occurs
+   */
+  @Nonnull
+  public static <A extends Appendable> A capitalize(@Nonnull final A appendable,
+      @Nonnull final CharSequence s) throws IOException {
+    appendable.append(Character.toUpperCase(s.charAt(0))).append(s, 1, s.length());
+    return appendable;
+  }
+
+  /**
+   * Appends the sequence {@code s} to {@code builder}, with the first character converted in lower
+   * case.
+   *
+   * @param builder the builder to append to
+   * @param s the sequence to append
+   * @return {@code builder}
+   * @throws IndexOutOfBoundsException if {@code s} is empty
+   */
+  @Nonnull
+  public static StringBuilder decapitalize(@Nonnull final StringBuilder builder,
+      @Nonnull final CharSequence s) {
+    return builder.append(Character.toLowerCase(s.charAt(0))).append(s, 1, s.length());
+  }
+
+  /**
+   * Appends the sequence {@code s} to {@code appendable}, with the first character converted in
+   * lower case.
+   *
+   * @param appendable the object to append to
+   * @param s the sequence to append
+   * @return {@code appendable}
+   * @throws IndexOutOfBoundsException if {@code s} is empty
+   * @throws IOException if an I/O error occurs
+   */
+  @Nonnull
+  public static <A extends Appendable> A decapitalize(@Nonnull final A appendable,
+      @Nonnull final CharSequence s) throws IOException {
+    appendable.append(Character.toLowerCase(s.charAt(0))).append(s, 1, s.length());
+    return appendable;
+  }
+
+  /**
+   * Returns the string {@code s} with the character at position {@code index} replaced by
+   * {@code c}, copying the characters once and only if they change.
+   */
+  private static String withCharAt(final String s, final int index, final char c) {
+    if (s.charAt(index) == c) {
+      return s;
+    }
+    final char[] chars = s.toCharArray();
+    chars[index] = c;
+    return new String(chars);
+  }
+
   @Beta
   public static boolean isUpperCase(@Nonnull final String s) {
     return s.equals(s.toUpperCase());
@@ -339,45 +787,106 @@ public final class JStrings {
   /**
    * Returns the lower <a href= "https://en.wikipedia.org/wiki/CamelCase">Camel Case</a> version of
    * the given phrase represented by the given list of strings where each string is treated as a
-   * word.
+   * word. Empty strings are skipped, so the first non-empty string is the first word.
    * 
    * @param strings a {@code List} of {@code String} objects
    * @return a {@code String} containing the lower Camel Case version of the given input
+   * @throws IllegalArgumentException if {@code strings} is empty
    */
   @Beta
   @Nonnull
   public static String lowerCamelCase(@Nonnull final List<String> strings) {
     Preconditions.checkArgument(strings.size() > 0);
-    final StringBuilder sb = new StringBuilder(strings.get(0).toLowerCase());
-    for (int i = 1; i < strings.size(); i++) {
-      sb.append(JStrings.capitalize(strings.get(i).toLowerCase()));
-    }
-    return sb.toString();
+    return joinLowerCamelCase(strings);
   }
 
+  /**
+   * Returns the lower <a href= "https://en.wikipedia.org/wiki/CamelCase">Camel Case</a> version of
+   * the given phrase, whose words are separated by the matches of {@code regex}. Leading, trailing
+   * and repeated separators delimit no word: {@code "_abc"} gives {@code "abc"}, {@code "a__b"}
+   * gives {@code "aB"} and {@code "___"} gives the empty string.
+   * 
+   * @param text the phrase to convert
+   * @param regex the regular expression matching the separators
+   * @return a {@code String} containing the lower Camel Case version of the given input
+   * @throws java.util.regex.PatternSyntaxException if the syntax of {@code regex} is not valid
+   */
   @Beta
   public static String lowerCamelCase(@Nonnull final String text, final String regex) {
-    final String[] split = text.split(regex);
-    return lowerCamelCase(Arrays.asList(split));
+    final String[] split = PatternCache.shared().compile(regex).split(text);
+    return joinLowerCamelCase(Arrays.asList(split));
   }
 
+  /**
+   * Returns the lower <a href= "https://en.wikipedia.org/wiki/CamelCase">Camel Case</a> version of
+   * the given phrase, whose words are separated by the given characters. Leading, trailing and
+   * repeated separators delimit no word: {@code "_abc"} gives {@code "abc"}, {@code "a__b"} gives
+   * {@code "aB"} and {@code "___"} gives the empty string.
+   * 
+   * @param text the phrase to convert
+   * @param separator a separator of the words
+   * @param others the other separators of the words
+   * @return a {@code String} containing the lower Camel Case version of the given input
+   */
   @Beta
   public static String lowerCamelCase(@Nonnull final String text, final char separator,
       final char... others) {
-    final char[] all = Chars.concat(new char[] {separator}, others);
-    final String regex = VerbalExpression.regex().anyOf(new String(all)).build().toString();
-    return lowerCamelCase(text, regex);
+    final CharClass separators = CharClass.of(Chars.concat(new char[] {separator}, others));
+    return CaseConverter.appendTo(new StringBuilder(text.length()), text, separators, false)
+        .toString();
   }
 
+  private static String joinLowerCamelCase(final Iterable<String> words) {
+    final StringBuilder sb = new StringBuilder();
+    for (final String word : words) {
+      // the empty words append nothing, so the first word is the one which fills sb
+      CaseConverter.appendWord(sb, word, 0, word.length(), sb.length() > 0);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns the lower <a href= "https://en.wikipedia.org/wiki/CamelCase">Camel Case</a> version of
+   * the given phrase, whose words are separated by spaces, underscores or hyphens, with the same
+   * result of {@code lowerCamelCase(text, ' ', '_', '-')}.
+   *
+   * @param text the phrase to convert
+   * @return a {@code String} containing the lower Camel Case version of the given input
+   * @see CaseConverter#lowerCamel()
+   */
   @Beta
   public static String lowerCamelCase(@Nonnull final String text) {
-    return lowerCamelCase(text, ' ', '_', '-');
+    return CaseConverter.lowerCamel().convert(text);
   }
 
+  /**
+   * Returns the upper <a href= "https://en.wikipedia.org/wiki/CamelCase">Camel Case</a> version of
+   * the given phrase, whose words are separated by spaces, underscores or hyphens.
+   *
+   * @param text the phrase to convert
+   * @return a {@code String} containing the upper Camel Case version of the given input
+   * @see CaseConverter#upperCamel()
+   */
+  @Beta
+  public static String upperCamelCase(@Nonnull final String text) {
+    return CaseConverter.upperCamel().convert(text);
+  }
+
+  /**
+   * Returns the string {@code s} with each run of whitespace, as matched by
+   * {@link #CONSECUTIVE_SPACES_REGEX}, replaced by a single space.
+   * <p>
+   * Does not use regular expressions: to combine this with other cleanup steps in a single pass,
+   * use a {@link StringNormalizer}.
+   *
+   * @param s the string
+   * @return the string {@code s} with consecutive whitespace collapsed
+   * @see StringNormalizer#collapseWhitespace()
+   */
   @Beta
   @Nonnull
   public static String removeConsecutiveSpaces(@Nonnull final String s) {
-    return s.replaceAll("\\s+", " ");
+    return SPACES_COLLAPSER.normalize(s);
   }
 
   /**
@@ -447,27 +956,22 @@ public final class JStrings {
     if (fromIndex > toIndex) {
       throw new IllegalArgumentException("fromIndex must be not greater than toIndex");
     }
-    for (int i = fromIndex; i < toIndex; i++) {
-      if (JChars.isConsonant(s.charAt(i))) {
-        return i;
-      }
-    }
-    return -1;
+    return JChars.CONSONANT_CLASS.indexOfAny(s, fromIndex, toIndex);
   }
 
   /**
    * Returns <tt>true</tt> if the string {@code s} is numeric, i.e. composed by just ISO Latin 1
    * digits, otherwise returns <tt>false</tt>.
    * <p>
-   * Executes the regular expression {@link JStrings#ISO_LATIN_1_DIGITS_REGEX} on the input string
-   * {@code s}.
+   * Has the same result of the regular expression {@link JStrings#ISO_LATIN_1_DIGITS_REGEX},
+   * without using it.
    *
    * @param s the string to check
    * @return <tt>true</tt> if the input string is numeric
    */
   @Beta
   public static boolean isISOLatinDigits(@Nonnull final String s) {
-    return s.matches(ISO_LATIN_1_DIGITS_REGEX) ? true : false;
+    return !s.isEmpty() && ISO_LATIN_1_DIGITS.allMatch(s);
   }
 
   public static boolean isDigits(@Nonnull final String s) {
@@ -522,23 +1026,142 @@ public final class JStrings {
     return true;
   }
 
+  /**
+   * Returns <tt>true</tt> if the UTF-8 bytes in the range {@code [from, to)} of {@code utf8}
+   * encode just digits, with the same result of {@link #isDigits(String)} on the decoded string.
+   * <p>
+   * The ASCII bytes are checked 8 at a time without decoding them: only the bytes following the
+   * first non ASCII one are decoded.
+   *
+   * @param utf8 the UTF-8 encoded bytes
+   * @param from the index of the first byte to check, inclusive
+   * @param to the index of the last byte to check, exclusive
+   * @return <tt>true</tt> if the bytes in the range encode just digits
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  @Beta
+  public static boolean isDigits(@Nonnull final byte[] utf8, final int from, final int to) {
+    Preconditions.checkPositionIndexes(from, to, utf8.length);
+    return Utf8Validator.allMatch(ByteBuffer.wrap(utf8), from, to, Utf8Validator.DIGITS);
+  }
+
+  /**
+   * Returns <tt>true</tt> if the remaining UTF-8 bytes of {@code utf8} encode just digits, with
+   * the same result of {@link #isDigits(String)} on the decoded string. The position of the buffer
+   * is not changed.
+   *
+   * @param utf8 the UTF-8 encoded bytes
+   * @return <tt>true</tt> if the remaining bytes encode just digits
+   * @see #isDigits(byte[], int, int)
+   */
+  @Beta
+  public static boolean isDigits(@Nonnull final ByteBuffer utf8) {
+    return Utf8Validator.allMatch(utf8, utf8.position(), utf8.limit(), Utf8Validator.DIGITS);
+  }
+
+  /**
+   * Returns <tt>true</tt> if the UTF-8 bytes in the range {@code [from, to)} of {@code utf8}
+   * encode just letters, with the same result of {@link #isAlphabetic(String)} on the decoded
+   * string.
+   * <p>
+   * The ASCII bytes are checked 8 at a time without decoding them: only the bytes following the
+   * first non ASCII one are decoded.
+   *
+   * @param utf8 the UTF-8 encoded bytes
+   * @param from the index of the first byte to check, inclusive
+   * @param to the index of the last byte to check, exclusive
+   * @return <tt>true</tt> if the bytes in the range encode just letters
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  @Beta
+  public static boolean isAlphabetic(@Nonnull final byte[] utf8, final int from, final int to) {
+    Preconditions.checkPositionIndexes(from, to, utf8.length);
+    return Utf8Validator.allMatch(ByteBuffer.wrap(utf8), from, to, Utf8Validator.LETTERS);
+  }
+
+  /**
+   * Returns <tt>true</tt> if the remaining UTF-8 bytes of {@code utf8} encode just letters, with
+   * the same result of {@link #isAlphabetic(String)} on the decoded string. The position of the
+   * buffer is not changed.
+   *
+   * @param utf8 the UTF-8 encoded bytes
+   * @return <tt>true</tt> if the remaining bytes encode just letters
+   * @see #isAlphabetic(byte[], int, int)
+   */
+  @Beta
+  public static boolean isAlphabetic(@Nonnull final ByteBuffer utf8) {
+    return Utf8Validator.allMatch(utf8, utf8.position(), utf8.limit(), Utf8Validator.LETTERS);
+  }
+
+  /**
+   * Returns <tt>true</tt> if the UTF-8 bytes in the range {@code [from, to)} of {@code utf8}
+   * encode just digits and letters, with the same result of {@link #isAlphanumeric(String)} on
+   * the decoded string.
+   * <p>
+   * The ASCII bytes are checked 8 at a time without decoding them: only the bytes following the
+   * first non ASCII one are decoded.
+   *
+   * @param utf8 the UTF-8 encoded bytes
+   * @param from the index of the first byte to check, inclusive
+   * @param to the index of the last byte to check, exclusive
+   * @return <tt>true</tt> if the bytes in the range encode just digits and letters
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  @Beta
+  public static boolean isAlphanumeric(@Nonnull final byte[] utf8, final int from, final int to) {
+    Preconditions.checkPositionIndexes(from, to, utf8.length);
+    return Utf8Validator.allMatch(ByteBuffer.wrap(utf8), from, to,
+        Utf8Validator.LETTERS_OR_DIGITS);
+  }
+
+  /**
+   * Returns <tt>true</tt> if the remaining UTF-8 bytes of {@code utf8} encode just digits and
+   * letters, with the same result of {@link #isAlphanumeric(String)} on the decoded string. The
+   * position of the buffer is not changed.
+   *
+   * @param utf8 the UTF-8 encoded bytes
+   * @return <tt>true</tt> if the remaining bytes encode just digits and letters
+   * @see #isAlphanumeric(byte[], int, int)
+   */
+  @Beta
+  public static boolean isAlphanumeric(@Nonnull final ByteBuffer utf8) {
+    return Utf8Validator.allMatch(utf8, utf8.position(), utf8.limit(),
+        Utf8Validator.LETTERS_OR_DIGITS);
+  }
+
   /**
    * Returns <tt>true</tt> if the specified string {@code s} is composed only of characters from the
    * <a href="https://en.wikipedia.org/wiki/ISO_basic_Latin_alphabet"> ISO basic Latin alphabet</a>
    * i.e. the same characters of the English alphabet.
+   * <p>
+   * Has the same result of the regular expression {@link JStrings#ISO_BASIC_LATIN_ALPHABET_REGEX},
+   * without using it.
    * 
    * @param s the string to check
    * @return <tt>true</tt> if the specified string is composed only of characters from the ISO basic
    *         Latin alphabet
    */
   public static boolean isISOBasicLatinAlphabet(@Nonnull final String s) {
-    return s.matches(ISO_BASIC_LATIN_ALPHABET_REGEX);
+    return !s.isEmpty() && ISO_BASIC_LATIN_ALPHABET.allMatch(s);
   }
 
+  /**
+   * Returns the string {@code s} with each character matched by
+   * {@link #NOT_ISO_LATIN_ALPHABET_OR_DIGITS_REGEX} replaced by the literal string
+   * {@code replacement}.
+   * <p>
+   * Does not use regular expressions: to combine this with other cleanup steps in a single pass,
+   * use a {@link StringNormalizer}.
+   *
+   * @param s the string
+   * @param replacement the replacement string
+   * @return the string {@code s} with the characters not alphanumeric replaced
+   * @see StringNormalizer#replaceNotAlphanumeric(String)
+   */
   @Nonnull
   public static String replaceNotAlphanumeric(@Nonnull final String s,
       @Nonnull final String replacement) {
-    return s.replaceAll(NOT_ISO_LATIN_ALPHABET_OR_DIGITS_REGEX, replacement);
+    return StringNormalizer.create().replaceNotAlphanumeric(replacement).normalize(s);
   }
 
   /**
@@ -560,22 +1183,17 @@ public final class JStrings {
 
   /**
    * Returns the number of occurrences of the characters {@code chars} in the string {@code ss}.
+   * <p>
+   * The string is scanned once: when counting the same characters in many strings, reuse the same
+   * {@link CharHistogram}.
    *
    * @param s the string to check
    * @param chars the characters to count
    * @return an array of {@code int} where array[i] = occurrences of the character {@code chars[i]}
+   * @see CharHistogram
    */
   public static int[] occurrences(@Nonnull final String s, final char[] chars) {
-    final int[] count = new int[chars.length];
-    Arrays.fill(count, 0);
-    for (int i = 0; i < s.length(); i++) {
-      for (int j = 0; j < chars.length; j++) {
-        if (s.charAt(i) == chars[j]) {
-          count[j]++;
-        }
-      }
-    }
-    return count;
+    return CharHistogram.of(chars).count(s);
   }
 
   /**
@@ -632,4 +1250,134 @@ public final class JStrings {
       return new String(pad);
     }
   }
+
+  /**
+   * Appends the sequence {@code s} to {@code builder}, preceded by as many characters {@code c} as
+   * needed to append {@code size} characters, without creating the padded string.
+   *
+   * @param builder the builder to append to
+   * @param s the sequence to append
+   * @param size the number of characters to append
+   * @param c the character to fill with
+   * @return {@code builder}
+   * @throws IllegalArgumentException if the given {@code size} is lesser than the length of
+   *         {@code s}
+   * @see #padStart(String, int, char)
+   */
+  @Nonnull
+  public static StringBuilder padStart(@Nonnull final StringBuilder builder,
+      @Nonnull final CharSequence s, final int size, final char c) {
+    checkPadSize(s, size);
+    builder.ensureCapacity(builder.length() + size);
+    for (int i = s.length(); i < size; i++) {
+      builder.append(c);
+    }
+    return builder.append(s);
+  }
+
+  /**
+   * Appends the sequence {@code s} to {@code appendable}, preceded by as many characters {@code c}
+   * as needed to append {@code size} characters, without creating the padded string.
+   *
+   * @param appendable the object to append to
+   * @param s the sequence to append
+   * @param size the number of characters to append
+   * @param c the character to fill with
+   * @return {@code appendable}
+   * @throws IllegalArgumentException if the given {@code size} is lesser than the length of
+   *         {@code s}
+   * @throws IOException if an I/O error occurs
+   * @see #padStart(String, int, char)
+   */
+  @Nonnull
+  public static <A extends Appendable> A padStart(@Nonnull final A appendable,
+      @Nonnull final CharSequence s, final int size, final char c) throws IOException {
+    checkPadSize(s, size);
+    for (int i = s.length(); i < size; i++) {
+      appendable.append(c);
+    }
+    appendable.append(s);
+    return appendable;
+  }
+
+  /**
+   * Appends the sequence {@code s} to {@code builder}, followed by as many characters {@code c} as
+   * needed to append {@code size} characters, without creating the padded string.
+   *
+   * @param builder the builder to append to
+   * @param s the sequence to append
+   * @param size the number of characters to append
+   * @param c the character to fill with
+   * @return {@code builder}
+   * @throws IllegalArgumentException if the given {@code size} is lesser than the length of
+   *         {@code s}
+   * @see #padEnd(String, int, char)
+   */
+  @Nonnull
+  public static StringBuilder padEnd(@Nonnull final StringBuilder builder,
+      @Nonnull final CharSequence s, final int size, final char c) {
+    checkPadSize(s, size);
+    builder.ensureCapacity(builder.length() + size);
+    builder.append(s);
+    for (int i = s.length(); i < size; i++) {
+      builder.append(c);
+    }
+    return builder;
+  }
+
+  /**
+   * Appends the sequence {@code s} to {@code appendable}, followed by as many characters {@code c}
+   * as needed to append {@code size} characters, without creating the padded string.
+   *
+   * @param appendable the object to append to
+   * @param s the sequence to append
+   * @param size the number of characters to append
+   * @param c the character to fill with
+   * @return {@code appendable}
+   * @throws IllegalArgumentException if the given {@code size} is lesser than the length of
+   *         {@code s}
+   * @throws IOException if an I/O error occurs
+   * @see #padEnd(String, int, char)
+   */
+  @Nonnull
+  public static <A extends Appendable> A padEnd(@Nonnull final A appendable,
+      @Nonnull final CharSequence s, final int size, final char c) throws IOException {
+    checkPadSize(s, size);
+    appendable.append(s);
+    for (int i = s.length(); i < size; i++) {
+      appendable.append(c);
+    }
+    return appendable;
+  }
+
+  private static void checkPadSize(final CharSequence s, final int size) {
+    if (size < s.length()) {
+      throw new IllegalArgumentException(
+          "The specified size must be at least equals to the string length");
+    }
+  }
+
+  /**
+   * Returns an empty {@code StringBuilder} owned by the current thread, to be reused for building
+   * many strings without allocating a new builder each time.
+   * <p>
+   * Each call clears and returns the same builder, therefore it must not be kept beyond the
+   * building of a single string, nor requested again while in use, e.g. by a method called in
+   * between; a builder grown beyond 65536 characters is discarded instead of being kept by the
+   * thread.
+   *
+   * @return the empty {@code StringBuilder} of the current thread
+   */
+  @Beta
+  @Nonnull
+  public static StringBuilder reusableBuilder() {
+    StringBuilder builder = REUSABLE_BUILDER.get();
+    if (builder.capacity() > MAX_REUSED_CAPACITY) {
+      builder = new StringBuilder(DEFAULT_REUSED_CAPACITY);
+      REUSABLE_BUILDER.set(builder);
+    } else {
+      builder.setLength(0);
+    }
+    return builder;
+  }
 }
@@ -0,0 +1,409 @@
+package com.github.mforoni.jbasic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * An immutable sequence of characters in the ISO-8859-1 (Latin-1) range {@code [U+0000, U+00FF]},
+ * ASCII included, stored in one byte per character.
+ * <p>
+ * A {@code Latin1String} takes half the memory of the equivalent {@code String} on the JVMs storing
+ * strings in UTF-16, and provides the common {@link JStrings} operations without converting to
+ * {@code String}. Its hash code is computed lazily, cached, and equal to the hash code of the
+ * equivalent {@code String}; {@link #compareTo(Latin1String)} has the same order of
+ * {@link String#compareTo(String)}.
+ *
+ * @author Foroni Marco
+ * @see JStrings
+ */
+@Beta
+@Immutable
+public final class Latin1String implements CharSequence, Comparable<Latin1String> {
+  private static final Latin1String EMPTY = new Latin1String(new byte[0]);
+  // the case folding of each Latin-1 character, as done by String.equalsIgnoreCase
+  private static final char[] FOLDED = new char[256];
+
+  static {
+    for (char c = 0; c < FOLDED.length; c++) {
+      FOLDED[c] = IgnoreCaseStringSet.fold(c);
+    }
+  }
+
+  private final byte[] value;
+  private int hash;
+
+  private Latin1String(final byte[] value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns the {@code Latin1String} having the same characters of the given sequence.
+   *
+   * @param s the sequence to copy
+   * @return the {@code Latin1String} having the same characters of {@code s}
+   * @throws IllegalArgumentException if a character of {@code s} is not in the Latin-1 range
+   * @see #canEncode(CharSequence)
+   */
+  @Nonnull
+  public static Latin1String of(@Nonnull final CharSequence s) {
+    if (s instanceof Latin1String) {
+      return (Latin1String) s;
+    }
+    final byte[] value = new byte[s.length()];
+    for (int i = 0; i < value.length; i++) {
+      value[i] = encode(s.charAt(i));
+    }
+    return new Latin1String(value);
+  }
+
+  /**
+   * Returns the {@code Latin1String} decoded from the ISO-8859-1 bytes in the range
+   * {@code [from, to)} of the given array.
+   *
+   * @param latin1 the ISO-8859-1 encoded bytes
+   * @param from the index of the first byte, inclusive
+   * @param to the index of the last byte, exclusive
+   * @return the {@code Latin1String} of the given bytes
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  @Nonnull
+  public static Latin1String copyOf(@Nonnull final byte[] latin1, final int from, final int to) {
+    Preconditions.checkPositionIndexes(from, to, latin1.length);
+    return new Latin1String(Arrays.copyOfRange(latin1, from, to));
+  }
+
+  /**
+   * Returns <tt>true</tt> if all the characters of the given sequence are in the Latin-1 range.
+   *
+   * @param s the sequence to check
+   * @return <tt>true</tt> if {@code s} can be stored in a {@code Latin1String}
+   */
+  public static boolean canEncode(@Nonnull final CharSequence s) {
+    for (int i = 0; i < s.length(); i++) {
+      if (s.charAt(i) > 0xFF) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static byte encode(final char c) {
+    if (c > 0xFF) {
+      throw new IllegalArgumentException(
+          String.format("The character U+%04X is not in the Latin-1 range", (int) c));
+    }
+    return (byte) c;
+  }
+
+  @Override
+  public int length() {
+    return value.length;
+  }
+
+  public boolean isEmpty() {
+    return value.length == 0;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    return (char) (value[index] & 0xFF);
+  }
+
+  @Override
+  public Latin1String subSequence(final int start, final int end) {
+    Preconditions.checkPositionIndexes(start, end, value.length);
+    if (start == 0 && end == value.length) {
+      return this;
+    }
+    return new Latin1String(Arrays.copyOfRange(value, start, end));
+  }
+
+  /**
+   * Returns a copy of the ISO-8859-1 encoded bytes of this string.
+   *
+   * @return the bytes of this string
+   */
+  @Nonnull
+  public byte[] getBytes() {
+    return value.clone();
+  }
+
+  /**
+   * Returns <tt>true</tt> if {@code other} has the same characters of this string, ignoring case
+   * under the same rules of {@link String#equalsIgnoreCase(String)}.
+   *
+   * @param other the sequence to compare
+   * @return <tt>true</tt> if {@code other} is equal ignoring case to this string
+   */
+  public boolean equalsIgnoreCase(@Nullable final CharSequence other) {
+    if (other == null || other.length() != value.length) {
+      return false;
+    }
+    if (other instanceof Latin1String) {
+      final byte[] otherValue = ((Latin1String) other).value;
+      for (int i = 0; i < value.length; i++) {
+        if (value[i] != otherValue[i]
+            && FOLDED[value[i] & 0xFF] != FOLDED[otherValue[i] & 0xFF]) {
+          return false;
+        }
+      }
+      return true;
+    }
+    for (int i = 0; i < value.length; i++) {
+      final char c = other.charAt(i);
+      if (charAt(i) != c && FOLDED[value[i] & 0xFF] != IgnoreCaseStringSet.fold(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns this string with the character at position {@code index} converted in upper case.
+   * A character whose upper case is not in the Latin-1 range, as {@code 'ÿ'}, is left unchanged.
+   *
+   * @param index the index of the character to convert
+   * @return this string with the character at position {@code index} converted in upper case
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   * @see JStrings#capitalize(String, int)
+   */
+  @Nonnull
+  public Latin1String capitalize(final int index) {
+    return withCharAt(index, Character.toUpperCase(charAt(index)));
+  }
+
+  /**
+   * Returns this string with the first character converted in upper case.
+   *
+   * @return this string with the first character converted in upper case
+   * @throws IndexOutOfBoundsException if this string is empty
+   * @see #capitalize(int)
+   */
+  @Nonnull
+  public Latin1String capitalize() {
+    return capitalize(0);
+  }
+
+  /**
+   * Returns this string with the character at position {@code index} converted in lower case.
+   *
+   * @param index the index of the character to convert
+   * @return this string with the character at position {@code index} converted in lower case
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   * @see JStrings#decapitalize(String, int)
+   */
+  @Nonnull
+  public Latin1String decapitalize(final int index) {
+    return withCharAt(index, Character.toLowerCase(charAt(index)));
+  }
+
+  /**
+   * Returns this string with the first character converted in lower case.
+   *
+   * @return this string with the first character converted in lower case
+   * @throws IndexOutOfBoundsException if this string is empty
+   * @see #decapitalize(int)
+   */
+  @Nonnull
+  public Latin1String decapitalize() {
+    return decapitalize(0);
+  }
+
+  private Latin1String withCharAt(final int index, final char c) {
+    if (c > 0xFF || c == charAt(index)) {
+      return this;
+    }
+    final byte[] changed = value.clone();
+    changed[index] = (byte) c;
+    return new Latin1String(changed);
+  }
+
+  /**
+   * Returns this string filled up at the beginning with the character {@code c} in order to reach
+   * the requested length {@code size}.
+   *
+   * @param size the length to reach
+   * @param c the Latin-1 character to fill with
+   * @return this string left filled up with {@code c} up to {@code size}
+   * @throws IllegalArgumentException if {@code size} is lesser than the length or {@code c} is not
+   *         in the Latin-1 range
+   * @see JStrings#padStart(String, int, char)
+   */
+  @Nonnull
+  public Latin1String padStart(final int size, final char c) {
+    Preconditions.checkArgument(size >= value.length,
+        "The specified size must be at least equals to the string length");
+    final byte b = encode(c);
+    if (size == value.length) {
+      return this;
+    }
+    final byte[] padded = new byte[size];
+    Arrays.fill(padded, 0, size - value.length, b);
+    System.arraycopy(value, 0, padded, size - value.length, value.length);
+    return new Latin1String(padded);
+  }
+
+  /**
+   * Returns this string filled up at the end with the character {@code c} in order to reach the
+   * requested length {@code size}.
+   *
+   * @param size the length to reach
+   * @param c the Latin-1 character to fill with
+   * @return this string right filled up with {@code c} up to {@code size}
+   * @throws IllegalArgumentException if {@code size} is lesser than the length or {@code c} is not
+   *         in the Latin-1 range
+   * @see JStrings#padEnd(String, int, char)
+   */
+  @Nonnull
+  public Latin1String padEnd(final int size, final char c) {
+    Preconditions.checkArgument(size >= value.length,
+        "The specified size must be at least equals to the string length");
+    final byte b = encode(c);
+    if (size == value.length) {
+      return this;
+    }
+    final byte[] padded = Arrays.copyOf(value, size);
+    Arrays.fill(padded, value.length, size, b);
+    return new Latin1String(padded);
+  }
+
+  /**
+   * Returns the number of occurrences of the character {@code c} in this string.
+   *
+   * @param c the character to count
+   * @return the number of occurrences of {@code c}
+   * @see JStrings#occurrences(String, char)
+   */
+  public int occurrences(final char c) {
+    if (c > 0xFF) {
+      return 0;
+    }
+    final byte b = (byte) c;
+    int count = 0;
+    for (final byte v : value) {
+      if (v == b) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the character {@code c} in this string, or
+   * <tt>-1</tt> if it does not occur.
+   *
+   * @param c the character to search
+   * @return the index of the first occurrence of {@code c}, or <tt>-1</tt>
+   */
+  public int indexOf(final char c) {
+    if (c <= 0xFF) {
+      final byte b = (byte) c;
+      for (int i = 0; i < value.length; i++) {
+        if (value[i] == b) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns <tt>true</tt> if this string is composed by just digits: in the Latin-1 range they
+   * are {@code '0'} to {@code '9'}.
+   *
+   * @return <tt>true</tt> if this string is composed by just digits
+   * @see JStrings#isDigits(String)
+   */
+  public boolean isDigits() {
+    for (final byte b : value) {
+      if (b < '0' || b > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Splits this string around the character {@code separator}, with the same result of
+   * {@link String#split(String)}: the trailing empty strings are not included.
+   *
+   * @param separator the separator character
+   * @return the array of strings computed by splitting this string
+   * @see JStrings#split(String, char[])
+   */
+  @Nonnull
+  public Latin1String[] split(final char separator) {
+    if (separator > 0xFF) {
+      return new Latin1String[] {this};
+    }
+    final byte b = (byte) separator;
+    final List<Latin1String> tokens = new ArrayList<>();
+    int start = 0;
+    for (int i = 0; i < value.length; i++) {
+      if (value[i] == b) {
+        tokens.add(i == start ? EMPTY : new Latin1String(Arrays.copyOfRange(value, start, i)));
+        start = i + 1;
+      }
+    }
+    if (tokens.isEmpty()) {
+      return new Latin1String[] {this};
+    }
+    if (start < value.length) {
+      tokens.add(new Latin1String(Arrays.copyOfRange(value, start, value.length)));
+    }
+    // removes the trailing empty strings, as String.split does
+    int size = tokens.size();
+    while (size > 0 && tokens.get(size - 1).isEmpty()) {
+      size--;
+    }
+    return tokens.subList(0, size).toArray(new Latin1String[size]);
+  }
+
+  @Override
+  public int compareTo(@Nonnull final Latin1String other) {
+    final int length = Math.min(value.length, other.value.length);
+    for (int i = 0; i < length; i++) {
+      if (value[i] != other.value[i]) {
+        return (value[i] & 0xFF) - (other.value[i] & 0xFF);
+      }
+    }
+    return value.length - other.value.length;
+  }
+
+  @Override
+  public boolean equals(@Nullable final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Latin1String)) {
+      return false;
+    }
+    final Latin1String other = (Latin1String) obj;
+    return (hash == 0 || other.hash == 0 || hash == other.hash)
+        && Arrays.equals(value, other.value);
+  }
+
+  @Override
+  public int hashCode() {
+    int h = hash;
+    if (h == 0) {
+      for (final byte b : value) {
+        h = 31 * h + (b & 0xFF);
+      }
+      hash = h;
+    }
+    return h;
+  }
+
+  @Override
+  public String toString() {
+    return new String(value, StandardCharsets.ISO_8859_1);
+  }
+}
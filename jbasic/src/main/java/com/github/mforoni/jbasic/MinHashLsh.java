@@ -0,0 +1,286 @@
+package com.github.mforoni.jbasic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+import info.debatty.java.stringsimilarity.interfaces.MetricStringDistance;
+
+/**
+ * Groups a collection of strings into clusters of near-duplicates using
+ * <a href="https://en.wikipedia.org/wiki/MinHash">MinHash</a> signatures and
+ * <a href="https://en.wikipedia.org/wiki/Locality-sensitive_hashing">locality-sensitive
+ * hashing</a>.
+ * <p>
+ * Each string is reduced to the set of its character shingles, whose MinHash signature of
+ * {@code bands * rows} values estimates the Jaccard similarity with other strings. Two strings
+ * become a candidate pair when all the values of at least one band are equal, which happens with
+ * high probability when their Jaccard similarity is above about {@code (1 / bands)^(1 / rows)}.
+ * Candidate pairs are then verified with a {@link MetricStringDistance}, so that only the pairs
+ * sharing a band are ever compared instead of all the pairs.
+ *
+ * @author Foroni Marco
+ * @see MetricStringDistance
+ */
+@Beta
+@Immutable
+public final class MinHashLsh {
+  public static final int DEFAULT_NUM_HASHES = 128;
+  private static final long DEFAULT_SEED = 0x5DEECE66DL;
+
+  private final int shingleSize;
+  private final int bands;
+  private final int rows;
+  private final long[] seeds;
+
+  private MinHashLsh(final int shingleSize, final int bands, final int rows, final long seed) {
+    this.shingleSize = shingleSize;
+    this.bands = bands;
+    this.rows = rows;
+    final Random random = new Random(seed);
+    seeds = new long[bands * rows];
+    for (int i = 0; i < seeds.length; i++) {
+      seeds[i] = random.nextLong();
+    }
+  }
+
+  /**
+   * Returns a new {@code MinHashLsh} using shingles of {@code shingleSize} characters and
+   * {@value #DEFAULT_NUM_HASHES} hash functions, split in bands so that the strings having Jaccard
+   * similarity above {@code jaccardThreshold} are likely to become candidate pairs.
+   *
+   * @param shingleSize the number of characters of each shingle
+   * @param jaccardThreshold the Jaccard similarity, between 0 and 1 exclusive, above which the
+   *        strings should become candidate pairs
+   * @return a new {@code MinHashLsh}
+   * @throws IllegalArgumentException if {@code shingleSize} is not positive or
+   *         {@code jaccardThreshold} is not between 0 and 1 exclusive
+   */
+  @Nonnull
+  public static MinHashLsh create(final int shingleSize, final double jaccardThreshold) {
+    Preconditions.checkArgument(jaccardThreshold > 0 && jaccardThreshold < 1,
+        "jaccardThreshold must be between 0 and 1 exclusive");
+    // the approximated threshold is kept not greater than the requested one, favoring recall
+    int bestRows = 1;
+    double bestThreshold = 0;
+    for (int rows = 1; rows <= DEFAULT_NUM_HASHES; rows++) {
+      final int bands = DEFAULT_NUM_HASHES / rows;
+      final double threshold = Math.pow(1.0 / bands, 1.0 / rows);
+      if (threshold <= jaccardThreshold && threshold > bestThreshold) {
+        bestRows = rows;
+        bestThreshold = threshold;
+      }
+    }
+    return create(shingleSize, DEFAULT_NUM_HASHES / bestRows, bestRows, DEFAULT_SEED);
+  }
+
+  /**
+   * Returns a new {@code MinHashLsh} with signatures of {@code bands * rows} values.
+   *
+   * @param shingleSize the number of characters of each shingle
+   * @param bands the number of bands
+   * @param rows the number of signature values of each band
+   * @param seed the seed used to generate the hash functions
+   * @return a new {@code MinHashLsh}
+   * @throws IllegalArgumentException if any of {@code shingleSize}, {@code bands} or {@code rows}
+   *         is not positive
+   */
+  @Nonnull
+  public static MinHashLsh create(final int shingleSize, final int bands, final int rows,
+      final long seed) {
+    Preconditions.checkArgument(shingleSize > 0, "shingleSize must be positive");
+    Preconditions.checkArgument(bands > 0, "bands must be positive");
+    Preconditions.checkArgument(rows > 0, "rows must be positive");
+    return new MinHashLsh(shingleSize, bands, rows, seed);
+  }
+
+  public int getShingleSize() {
+    return shingleSize;
+  }
+
+  public int getBands() {
+    return bands;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Returns the MinHash signature of the given string {@code s}: for each hash function, the
+   * minimum hash of the shingles of {@code s}. A string shorter than the shingle size is a single
+   * shingle.
+   *
+   * @param s the string
+   * @return an array of {@code bands * rows} values
+   */
+  @Nonnull
+  public int[] signature(@Nonnull final String s) {
+    final int[] signature = new int[seeds.length];
+    Arrays.fill(signature, Integer.MAX_VALUE);
+    final int shingles = Math.max(1, s.length() - shingleSize + 1);
+    for (int start = 0; start < shingles; start++) {
+      final int end = Math.min(s.length(), start + shingleSize);
+      long shingle = 0;
+      for (int i = start; i < end; i++) {
+        shingle = 31 * shingle + s.charAt(i);
+      }
+      for (int i = 0; i < seeds.length; i++) {
+        final int hash = (int) mix(shingle ^ seeds[i]);
+        if (hash < signature[i]) {
+          signature[i] = hash;
+        }
+      }
+    }
+    return signature;
+  }
+
+  /**
+   * Returns the Jaccard similarity estimated from two signatures, i.e. the fraction of their equal
+   * values.
+   *
+   * @param signature1 the first signature
+   * @param signature2 the second signature
+   * @return the estimated Jaccard similarity, between 0 and 1
+   * @throws IllegalArgumentException if the signatures have different length
+   */
+  public static double similarity(@Nonnull final int[] signature1,
+      @Nonnull final int[] signature2) {
+    Preconditions.checkArgument(signature1.length == signature2.length,
+        "The signatures must have the same length");
+    int equals = 0;
+    for (int i = 0; i < signature1.length; i++) {
+      if (signature1[i] == signature2[i]) {
+        equals++;
+      }
+    }
+    return (double) equals / signature1.length;
+  }
+
+  /**
+   * Groups the distinct strings of the given {@link Collection} into clusters: two strings are in
+   * the same cluster if they are connected by a chain of candidate pairs whose distance is not
+   * greater than {@code maxDistance}. Each string belongs to exactly one cluster, and the strings
+   * without near-duplicates form singleton clusters.
+   *
+   * @param collection the strings to cluster
+   * @param metricStringDistance the distance used to verify the candidate pairs
+   * @param maxDistance the maximum distance of near-duplicates, inclusive
+   * @return a {@code List} of clusters, in order of first occurrence in the {@code collection}
+   */
+  @Nonnull
+  public List<Set<String>> clusters(@Nonnull final Collection<String> collection,
+      @Nonnull final MetricStringDistance metricStringDistance, final double maxDistance) {
+    Preconditions.checkNotNull(metricStringDistance);
+    Preconditions.checkArgument(maxDistance >= 0, "maxDistance cannot be negative");
+    final String[] strings = new LinkedHashSet<>(collection).toArray(new String[0]);
+    final int[][] signatures = new int[strings.length][];
+    for (int i = 0; i < strings.length; i++) {
+      signatures[i] = signature(strings[i]);
+    }
+    final BoundedStringDistance boundedStringDistance = JStrings.asBounded(metricStringDistance);
+    final int threshold = (int) Math.min(maxDistance, Integer.MAX_VALUE);
+    final int[] parents = new int[strings.length];
+    for (int i = 0; i < parents.length; i++) {
+      parents[i] = i;
+    }
+    // for each band, sorting (band hash, index) pairs puts the candidates next to each other
+    final long[] entries = new long[strings.length];
+    for (int band = 0; band < bands; band++) {
+      for (int i = 0; i < strings.length; i++) {
+        entries[i] = (long) bandHash(signatures[i], band) << 32 | i;
+      }
+      Arrays.sort(entries);
+      int start = 0;
+      while (start < entries.length) {
+        int end = start + 1;
+        while (end < entries.length && entries[end] >>> 32 == entries[start] >>> 32) {
+          end++;
+        }
+        for (int a = start + 1; a < end; a++) {
+          final int i = (int) entries[a];
+          for (int b = start; b < a; b++) {
+            final int j = (int) entries[b];
+            if (find(parents, i) == find(parents, j)) {
+              continue;
+            }
+            final boolean near;
+            if (boundedStringDistance != null) {
+              near = boundedStringDistance.distance(strings[i], strings[j], threshold) != -1;
+            } else {
+              near = metricStringDistance.distance(strings[i], strings[j]) <= maxDistance;
+            }
+            if (near) {
+              union(parents, i, j);
+            }
+          }
+        }
+        start = end;
+      }
+    }
+    final Map<Integer, Set<String>> clusters = new LinkedHashMap<>();
+    for (int i = 0; i < strings.length; i++) {
+      final int root = find(parents, i);
+      Set<String> cluster = clusters.get(root);
+      if (cluster == null) {
+        cluster = new LinkedHashSet<>();
+        clusters.put(root, cluster);
+      }
+      cluster.add(strings[i]);
+    }
+    return new ArrayList<>(clusters.values());
+  }
+
+  private int bandHash(final int[] signature, final int band) {
+    int hash = 1;
+    for (int i = band * rows; i < (band + 1) * rows; i++) {
+      hash = 31 * hash + signature[i];
+    }
+    return hash;
+  }
+
+  private static int find(final int[] parents, final int i) {
+    int root = i;
+    while (parents[root] != root) {
+      root = parents[root];
+    }
+    // path compression
+    int node = i;
+    while (parents[node] != root) {
+      final int next = parents[node];
+      parents[node] = root;
+      node = next;
+    }
+    return root;
+  }
+
+  private static void union(final int[] parents, final int i, final int j) {
+    final int rootI = find(parents, i);
+    final int rootJ = find(parents, j);
+    if (rootI < rootJ) {
+      parents[rootJ] = rootI;
+    } else if (rootJ < rootI) {
+      parents[rootI] = rootJ;
+    }
+  }
+
+  /**
+   * The finalization step of MurmurHash3, spreading the bits of {@code h}.
+   */
+  private static long mix(final long h) {
+    long x = h ^ h >>> 33;
+    x *= 0xff51afd7ed558ccdL;
+    x ^= x >>> 33;
+    x *= 0xc4ceb9fe1a85ec53L;
+    return x ^ x >>> 33;
+  }
+}
@@ -0,0 +1,198 @@
+package com.github.mforoni.jbasic;
+
+import javax.annotation.Nonnull;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+import info.debatty.java.stringsimilarity.Levenshtein;
+
+/**
+ * The <a href="https://en.wikipedia.org/wiki/Levenshtein_distance">Levenshtein distance</a>
+ * computed with the bit-parallel algorithm of Myers, as extended by Hyyrö to the global distance.
+ * <p>
+ * A column of the dynamic programming matrix is encoded as bit vectors of vertical deltas, so that
+ * each character of the longer string costs a few word operations per 64 characters of the shorter
+ * one: strings up to 64 characters fit in a single {@code long}, longer ones are split in blocks.
+ * The character masks are kept in per-thread buffers. Returns the same values of
+ * {@link Levenshtein}.
+ *
+ * @author Foroni Marco
+ * @see Levenshtein
+ * @see BoundedLevenshtein
+ */
+@Beta
+public final class MyersLevenshtein implements BoundedStringDistance {
+  private static final long serialVersionUID = 1L;
+  private static final ThreadLocal<Masks> MASKS = new ThreadLocal<Masks>() {
+    @Override
+    protected Masks initialValue() {
+      return new Masks();
+    }
+  };
+
+  @Override
+  public double distance(@Nonnull final String s1, @Nonnull final String s2) {
+    return distance(s1, s2, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int distance(@Nonnull final String s1, @Nonnull final String s2, final int threshold) {
+    Preconditions.checkNotNull(s1);
+    Preconditions.checkNotNull(s2);
+    Preconditions.checkArgument(threshold >= 0, "threshold cannot be negative");
+    final String pattern = s1.length() <= s2.length() ? s1 : s2;
+    final String text = pattern == s1 ? s2 : s1;
+    if (text.length() - pattern.length() > threshold) {
+      return -1;
+    }
+    if (pattern.isEmpty()) {
+      return text.length();
+    }
+    final Masks masks = MASKS.get();
+    final int blocks = (pattern.length() + 63) >>> 6;
+    masks.build(pattern, blocks);
+    try {
+      final int distance = blocks == 1 ? singleWord(masks, pattern.length(), text, threshold)
+          : multiWord(masks, blocks, pattern.length(), text, threshold);
+      return distance <= threshold ? distance : -1;
+    } finally {
+      masks.clear(pattern);
+    }
+  }
+
+  private static int singleWord(final Masks masks, final int m, final String text,
+      final int threshold) {
+    final long last = 1L << (m - 1);
+    long pv = -1L;
+    long mv = 0L;
+    int score = m;
+    final int n = text.length();
+    for (int j = 0; j < n; j++) {
+      final long eq = masks.get(text.charAt(j), 0);
+      final long xv = eq | mv;
+      final long xh = (((eq & pv) + pv) ^ pv) | eq;
+      long ph = mv | ~(xh | pv);
+      long mh = pv & xh;
+      if ((ph & last) != 0) {
+        score++;
+      } else if ((mh & last) != 0) {
+        score--;
+      }
+      // the first row of the matrix grows by one at each column
+      ph = (ph << 1) | 1L;
+      mh <<= 1;
+      pv = mh | ~(xv | ph);
+      mv = ph & xv;
+      // the score can decrease at most by one per remaining column
+      if (score - (n - j - 1) > threshold) {
+        return Integer.MAX_VALUE;
+      }
+    }
+    return score;
+  }
+
+  private static int multiWord(final Masks masks, final int blocks, final int m,
+      final String text, final int threshold) {
+    final long[] pv = masks.pv(blocks);
+    final long[] mv = masks.mv(blocks);
+    for (int b = 0; b < blocks; b++) {
+      pv[b] = -1L;
+      mv[b] = 0L;
+    }
+    final long last = 1L << ((m - 1) & 63);
+    int score = m;
+    final int n = text.length();
+    for (int j = 0; j < n; j++) {
+      final char c = text.charAt(j);
+      int hin = 1;
+      for (int b = 0; b < blocks; b++) {
+        long eq = masks.get(c, b);
+        final long pvb = pv[b];
+        final long mvb = mv[b];
+        final long xv = eq | mvb;
+        if (hin < 0) {
+          eq |= 1L;
+        }
+        final long xh = (((eq & pvb) + pvb) ^ pvb) | eq;
+        long ph = mvb | ~(xh | pvb);
+        long mh = pvb & xh;
+        final long high = b == blocks - 1 ? last : Long.MIN_VALUE;
+        final int hout = (ph & high) != 0 ? 1 : (mh & high) != 0 ? -1 : 0;
+        ph <<= 1;
+        mh <<= 1;
+        if (hin < 0) {
+          mh |= 1L;
+        } else if (hin > 0) {
+          ph |= 1L;
+        }
+        pv[b] = mh | ~(xv | ph);
+        mv[b] = ph & xv;
+        hin = hout;
+      }
+      score += hin;
+      if (score - (n - j - 1) > threshold) {
+        return Integer.MAX_VALUE;
+      }
+    }
+    return score;
+  }
+
+  /**
+   * Per-thread scratch space: the match masks of the pattern characters, one {@code long} per
+   * block, and the vertical delta vectors.
+   */
+  private static final class Masks {
+    // slot + 1 of each character of the pattern, 0 for the characters not in the pattern
+    private final int[] slots = new int[Character.MAX_VALUE + 1];
+    private long[] peq = new long[64];
+    private long[] pv = new long[4];
+    private long[] mv = new long[4];
+    private int blocks;
+
+    private void build(final String pattern, final int blocks) {
+      this.blocks = blocks;
+      int used = 0;
+      for (int i = 0; i < pattern.length(); i++) {
+        final char c = pattern.charAt(i);
+        int slot = slots[c] - 1;
+        if (slot < 0) {
+          slot = used++;
+          slots[c] = used;
+          if (used * blocks > peq.length) {
+            final long[] newPeq = new long[Math.max(used * blocks, peq.length * 2)];
+            System.arraycopy(peq, 0, newPeq, 0, (used - 1) * blocks);
+            peq = newPeq;
+          }
+          for (int b = 0; b < blocks; b++) {
+            peq[slot * blocks + b] = 0L;
+          }
+        }
+        peq[slot * blocks + (i >>> 6)] |= 1L << (i & 63);
+      }
+    }
+
+    private long get(final char c, final int block) {
+      final int slot = slots[c];
+      return slot == 0 ? 0L : peq[(slot - 1) * blocks + block];
+    }
+
+    private long[] pv(final int size) {
+      if (pv.length < size) {
+        pv = new long[size];
+      }
+      return pv;
+    }
+
+    private long[] mv(final int size) {
+      if (mv.length < size) {
+        mv = new long[size];
+      }
+      return mv;
+    }
+
+    private void clear(final String pattern) {
+      for (int i = 0; i < pattern.length(); i++) {
+        slots[pattern.charAt(i)] = 0;
+      }
+    }
+  }
+}
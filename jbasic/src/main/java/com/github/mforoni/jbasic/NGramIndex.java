@@ -0,0 +1,396 @@
+package com.github.mforoni.jbasic;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+import info.debatty.java.stringsimilarity.Levenshtein;
+import info.debatty.java.stringsimilarity.interfaces.MetricStringDistance;
+
+/**
+ * An immutable inverted index from the <a href="https://en.wikipedia.org/wiki/N-gram">n-grams</a>
+ * of a collection of strings to the strings containing them, used to select the candidates of a
+ * similarity search before verifying them with a {@link MetricStringDistance}.
+ * <p>
+ * Each string is padded with {@code n - 1} sentinel characters at both ends, so that a string of
+ * length {@code l} has {@code l + n - 1} n-grams. Since a single edit operation destroys at most
+ * {@code n} of them, two strings within edit distance {@code k} share at least
+ * {@code max(l1, l2) + n - 1 - k * n} n-grams: the strings sharing less are discarded without
+ * computing any distance. This count filter is exact as long as the given
+ * {@code MetricStringDistance} is never smaller than the {@link Levenshtein} distance, as the
+ * {@code Levenshtein} distance itself.
+ * <p>
+ * Posting lists are stored in a single {@code int[]} addressed by an offsets table, and n-grams are
+ * encoded as {@code long} values, therefore at most 4 characters per n-gram are supported.
+ *
+ * @author Foroni Marco
+ * @see JStrings#similars(String, Collection, MetricStringDistance)
+ * @see SimilarityIndex
+ */
+@Beta
+@Immutable
+public final class NGramIndex {
+  public static final int DEFAULT_N = 3;
+  private static final char PAD = '\u0000';
+
+  private final int n;
+  private final String[] terms;
+  private final GramTable grams;
+  private final int[] offsets;
+  private final int[] postings;
+  private final MetricStringDistance metricStringDistance;
+  @Nullable
+  private final BoundedStringDistance boundedStringDistance;
+  private final ThreadLocal<Counts> counts = new ThreadLocal<Counts>() {
+    @Override
+    protected Counts initialValue() {
+      return new Counts(terms.length);
+    }
+  };
+
+  private NGramIndex(final int n, final String[] terms, final GramTable grams,
+      final int[] offsets, final int[] postings,
+      final MetricStringDistance metricStringDistance) {
+    this.n = n;
+    this.terms = terms;
+    this.grams = grams;
+    this.offsets = offsets;
+    this.postings = postings;
+    this.metricStringDistance = metricStringDistance;
+    this.boundedStringDistance = JStrings.asBounded(metricStringDistance);
+  }
+
+  /**
+   * Returns a new trigram {@code NGramIndex} of the specified {@link Collection} verifying the
+   * candidates with the {@link Levenshtein} distance.
+   *
+   * @param collection the {@code Collection} of strings to index
+   * @return a new trigram {@code NGramIndex} of the specified {@code collection}
+   */
+  @Nonnull
+  public static NGramIndex create(@Nonnull final Collection<String> collection) {
+    return create(collection, DEFAULT_N, new BoundedLevenshtein());
+  }
+
+  /**
+   * Returns a new {@code NGramIndex} of the specified {@link Collection}.
+   *
+   * @param collection the {@code Collection} of strings to index
+   * @param n the number of characters of each n-gram, between 1 and 4
+   * @param metricStringDistance the distance verifying the candidates, never smaller than the
+   *        {@link Levenshtein} distance
+   * @return a new {@code NGramIndex} of the specified {@code collection}
+   * @throws IllegalArgumentException if {@code n} is not between 1 and 4
+   */
+  @Nonnull
+  public static NGramIndex create(@Nonnull final Collection<String> collection, final int n,
+      @Nonnull final MetricStringDistance metricStringDistance) {
+    Preconditions.checkArgument(n >= 1 && n <= 4, "n must be between 1 and 4");
+    Preconditions.checkNotNull(metricStringDistance);
+    final String[] terms = new LinkedHashSet<>(collection).toArray(new String[0]);
+    final GramTable grams = new GramTable();
+    // first pass: assigns an id to each n-gram and counts its postings
+    int[] sizes = new int[16];
+    long[] buffer = new long[16];
+    for (final String term : terms) {
+      Preconditions.checkNotNull(term, "The collection cannot contain null elements");
+      buffer = grams(term, n, buffer);
+      final int count = term.length() + n - 1;
+      for (int i = 0; i < count; i++) {
+        final int id = grams.putIfAbsent(buffer[i]);
+        if (id == sizes.length) {
+          sizes = Arrays.copyOf(sizes, sizes.length * 2);
+        }
+        sizes[id]++;
+      }
+    }
+    final int[] offsets = new int[grams.size() + 1];
+    for (int id = 0; id < grams.size(); id++) {
+      offsets[id + 1] = offsets[id] + sizes[id];
+    }
+    // second pass: fills the posting lists, each sorted by term id
+    final int[] postings = new int[offsets[grams.size()]];
+    final int[] next = Arrays.copyOf(offsets, grams.size());
+    for (int t = 0; t < terms.length; t++) {
+      buffer = grams(terms[t], n, buffer);
+      final int count = terms[t].length() + n - 1;
+      for (int i = 0; i < count; i++) {
+        postings[next[grams.get(buffer[i])]++] = t;
+      }
+    }
+    return new NGramIndex(n, terms, grams, offsets, postings, metricStringDistance);
+  }
+
+  /**
+   * Returns the number of distinct strings contained in this index.
+   *
+   * @return the number of distinct strings contained in this index
+   */
+  public int size() {
+    return terms.length;
+  }
+
+  /**
+   * Finds the strings in this index having minimum distance from the given {@code key}. Returns
+   * the same strings of {@link JStrings#similars(String, Collection, MetricStringDistance)}.
+   *
+   * @param key the string to search
+   * @return a {@code Set} of strings having minimum distance from the given {@code key}
+   */
+  @Nonnull
+  public Set<String> similars(@Nonnull final String key) {
+    Preconditions.checkNotNull(key);
+    final Counts counts = count(key);
+    try {
+      // widens the allowed distance until the count filter finds a candidate close enough
+      for (int k = 0; !isUnfiltered(key, k); k++) {
+        final Set<String> similars = similars(key, counts, k);
+        if (!similars.isEmpty()) {
+          return similars;
+        }
+      }
+    } finally {
+      counts.clear();
+    }
+    return JStrings.similars(key, Arrays.asList(terms), metricStringDistance);
+  }
+
+  /**
+   * Finds the strings in this index having distance from the given {@code key} not greater than
+   * {@code maxDistance}.
+   *
+   * @param key the string to search
+   * @param maxDistance the maximum distance allowed, inclusive
+   * @return a {@code Set} of strings having distance from the given {@code key} not greater than
+   *         {@code maxDistance}
+   * @throws IllegalArgumentException if {@code maxDistance} is negative
+   */
+  @Nonnull
+  public Set<String> within(@Nonnull final String key, final double maxDistance) {
+    Preconditions.checkNotNull(key);
+    Preconditions.checkArgument(maxDistance >= 0, "maxDistance cannot be negative");
+    final int k = (int) Math.min(maxDistance, Integer.MAX_VALUE);
+    final Set<String> within = new HashSet<>();
+    if (isUnfiltered(key, k)) {
+      for (final String term : terms) {
+        if (metricStringDistance.distance(term, key) <= maxDistance) {
+          within.add(term);
+        }
+      }
+      return within;
+    }
+    final Counts counts = count(key);
+    try {
+      for (int i = 0; i < counts.touched; i++) {
+        final int t = counts.terms[i];
+        if (passes(key, t, counts.counts[t], k) && distance(terms[t], key, k) <= maxDistance) {
+          within.add(terms[t]);
+        }
+      }
+    } finally {
+      counts.clear();
+    }
+    return within;
+  }
+
+  /**
+   * Returns <tt>true</tt> if a string sharing no n-gram with {@code key} can be within distance
+   * {@code k} from it, i.e. the count filter cannot discard anything.
+   */
+  private boolean isUnfiltered(final String key, final int k) {
+    return (long) k * n >= key.length() + n - 1;
+  }
+
+  private boolean passes(final String key, final int t, final int common, final int k) {
+    final int length = terms[t].length();
+    return Math.abs(length - key.length()) <= k
+        && common >= Math.max(length, key.length()) + n - 1 - (long) k * n;
+  }
+
+  private Set<String> similars(final String key, final Counts counts, final int k) {
+    final Set<String> similars = new HashSet<>();
+    double min = Double.MAX_VALUE;
+    for (int i = 0; i < counts.touched; i++) {
+      final int t = counts.terms[i];
+      if (!passes(key, t, counts.counts[t], k)) {
+        continue;
+      }
+      final double distance = distance(terms[t], key, k);
+      if (distance > k) {
+        continue;
+      }
+      if (distance < min) {
+        min = distance;
+        similars.clear();
+        similars.add(terms[t]);
+      } else if (distance == min) {
+        similars.add(terms[t]);
+      }
+    }
+    return similars;
+  }
+
+  /**
+   * Returns the distance between {@code term} and {@code key}, or a value greater than {@code k}
+   * if the distance is known to be greater than {@code k}.
+   */
+  private double distance(final String term, final String key, final int k) {
+    if (boundedStringDistance != null) {
+      final int distance = boundedStringDistance.distance(term, key, k);
+      return distance == -1 ? Double.MAX_VALUE : distance;
+    }
+    return metricStringDistance.distance(term, key);
+  }
+
+  /**
+   * Counts, for each string of this index, the n-grams shared with the given {@code key}, taking
+   * into account their multiplicity.
+   */
+  private Counts count(final String key) {
+    final Counts counts = this.counts.get();
+    final int length = key.length() + n - 1;
+    final long[] keyGrams = grams(key, n, new long[length]);
+    Arrays.sort(keyGrams, 0, length);
+    int i = 0;
+    while (i < length) {
+      int keyMultiplicity = 1;
+      while (i + keyMultiplicity < length && keyGrams[i + keyMultiplicity] == keyGrams[i]) {
+        keyMultiplicity++;
+      }
+      final int id = grams.get(keyGrams[i]);
+      if (id != -1) {
+        int p = offsets[id];
+        while (p < offsets[id + 1]) {
+          final int t = postings[p];
+          int termMultiplicity = 1;
+          while (p + termMultiplicity < offsets[id + 1] && postings[p + termMultiplicity] == t) {
+            termMultiplicity++;
+          }
+          counts.add(t, Math.min(keyMultiplicity, termMultiplicity));
+          p += termMultiplicity;
+        }
+      }
+      i += keyMultiplicity;
+    }
+    return counts;
+  }
+
+  /**
+   * Writes the padded n-grams of {@code s} into {@code buffer}, growing it if needed.
+   */
+  private static long[] grams(final String s, final int n, final long[] buffer) {
+    final int count = s.length() + n - 1;
+    final long[] grams =
+        buffer.length >= count ? buffer : new long[Math.max(count, buffer.length * 2)];
+    for (int i = 0; i < count; i++) {
+      long gram = 0;
+      for (int j = i - n + 1; j <= i; j++) {
+        final char c = j >= 0 && j < s.length() ? s.charAt(j) : PAD;
+        gram = gram << 16 | c;
+      }
+      grams[i] = gram;
+    }
+    return grams;
+  }
+
+  /**
+   * Per-thread scratch space holding the shared n-grams count of each touched string.
+   */
+  private static final class Counts {
+    private final int[] counts;
+    private int[] terms = new int[64];
+    private int touched;
+
+    private Counts(final int size) {
+      counts = new int[size];
+    }
+
+    private void add(final int t, final int count) {
+      if (counts[t] == 0) {
+        if (touched == terms.length) {
+          terms = Arrays.copyOf(terms, touched * 2);
+        }
+        terms[touched++] = t;
+      }
+      counts[t] += count;
+    }
+
+    private void clear() {
+      for (int i = 0; i < touched; i++) {
+        counts[terms[i]] = 0;
+      }
+      touched = 0;
+    }
+  }
+
+  /**
+   * An open addressing hash table assigning consecutive ids to {@code long} n-grams.
+   */
+  private static final class GramTable {
+    private long[] keys = new long[1 << 10];
+    // holds id + 1, so that 0 marks an empty slot
+    private int[] ids = new int[1 << 10];
+    private int size;
+
+    private int size() {
+      return size;
+    }
+
+    private int get(final long key) {
+      final int mask = keys.length - 1;
+      for (int i = hash(key) & mask;; i = (i + 1) & mask) {
+        if (ids[i] == 0) {
+          return -1;
+        } else if (keys[i] == key) {
+          return ids[i] - 1;
+        }
+      }
+    }
+
+    private int putIfAbsent(final long key) {
+      final int mask = keys.length - 1;
+      int i = hash(key) & mask;
+      while (ids[i] != 0) {
+        if (keys[i] == key) {
+          return ids[i] - 1;
+        }
+        i = (i + 1) & mask;
+      }
+      keys[i] = key;
+      ids[i] = ++size;
+      if (size * 2 > keys.length) {
+        rehash();
+      }
+      return size - 1;
+    }
+
+    private void rehash() {
+      final long[] oldKeys = keys;
+      final int[] oldIds = ids;
+      keys = new long[oldKeys.length * 2];
+      ids = new int[oldIds.length * 2];
+      final int mask = keys.length - 1;
+      for (int j = 0; j < oldKeys.length; j++) {
+        if (oldIds[j] != 0) {
+          int i = hash(oldKeys[j]) & mask;
+          while (ids[i] != 0) {
+            i = (i + 1) & mask;
+          }
+          keys[i] = oldKeys[j];
+          ids[i] = oldIds[j];
+        }
+      }
+    }
+
+    private static int hash(final long key) {
+      final long h = key * 0x9E3779B97F4A7C15L;
+      return (int) (h ^ (h >>> 32));
+    }
+  }
+}
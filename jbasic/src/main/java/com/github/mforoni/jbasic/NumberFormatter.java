@@ -0,0 +1,548 @@
+package com.github.mforoni.jbasic;
+
+import java.math.BigInteger;
+import javax.annotation.Nonnull;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * Provides {@code static} utility methods for writing the decimal representation of {@code int},
+ * {@code long} and {@code double} values straight into a {@code char[]}, an ASCII {@code byte[]}
+ * or a {@code StringBuilder}, without creating intermediate strings.
+ * <p>
+ * The integers can be written zero-padded up to a given width, as {@code "-0042"} for {@code -42}
+ * and width {@code 5}, the same of {@code String.format("%05d", -42)}: when every value fits in
+ * the width, the output has a fixed width. The doubles are written in the format of
+ * {@link Double#toString(double)}, with the shortest digits which read back by
+ * {@link Double#parseDouble(String)} give the same value, computed by the
+ * <a href="https://github.com/ulfjack/ryu">Ryu</a> algorithm.
+ * <p>
+ * The methods writing into arrays return the index following the last character written, so
+ * that consecutive values can be written one after the other.
+ *
+ * @author Foroni Marco
+ * @see NumberParser
+ * @see JStrings#padStart(String, int, char)
+ */
+@Beta
+public final class NumberFormatter {
+  /**
+   * The maximum number of characters written for an {@code int}, without padding.
+   */
+  public static final int MAX_INT_LENGTH = 11;
+  /**
+   * The maximum number of characters written for a {@code long}, without padding.
+   */
+  public static final int MAX_LONG_LENGTH = 20;
+  /**
+   * The maximum number of characters written for a {@code double}.
+   */
+  public static final int MAX_DOUBLE_LENGTH = 24;
+  // the two digits of each number in [0, 99]
+  private static final char[] DIGIT_PAIRS = new char[200];
+  private static final ThreadLocal<Buffer> BUFFERS = new ThreadLocal<Buffer>() {
+    @Override
+    protected Buffer initialValue() {
+      return new Buffer();
+    }
+  };
+  private static final int MANTISSA_BITS = 52;
+  private static final int EXPONENT_BIAS = 1023;
+  private static final int POW5_BITCOUNT = 125;
+  private static final int POW5_INV_BITCOUNT = 125;
+  // 5^i normalized to POW5_BITCOUNT bits, as {low 64 bits, high bits}
+  private static final long[] POW5_SPLIT = new long[2 * 326];
+  // 2^(bitlength(5^i) - 1 + POW5_INV_BITCOUNT) / 5^i, rounded up, as {low 64 bits, high bits}
+  private static final long[] POW5_INV_SPLIT = new long[2 * 342];
+
+  static {
+    for (int i = 0; i < 100; i++) {
+      DIGIT_PAIRS[2 * i] = (char) ('0' + i / 10);
+      DIGIT_PAIRS[2 * i + 1] = (char) ('0' + i % 10);
+    }
+    final BigInteger five = BigInteger.valueOf(5);
+    for (int i = 0; i < POW5_SPLIT.length / 2; i++) {
+      final BigInteger power = five.pow(i);
+      final int shift = power.bitLength() - POW5_BITCOUNT;
+      final BigInteger split = shift > 0 ? power.shiftRight(shift) : power.shiftLeft(-shift);
+      POW5_SPLIT[2 * i] = split.longValue();
+      POW5_SPLIT[2 * i + 1] = split.shiftRight(64).longValue();
+    }
+    for (int i = 0; i < POW5_INV_SPLIT.length / 2; i++) {
+      final BigInteger power = five.pow(i);
+      final BigInteger split = BigInteger.ONE
+          .shiftLeft(power.bitLength() - 1 + POW5_INV_BITCOUNT).divide(power).add(BigInteger.ONE);
+      POW5_INV_SPLIT[2 * i] = split.longValue();
+      POW5_INV_SPLIT[2 * i + 1] = split.shiftRight(64).longValue();
+    }
+  }
+
+  // Suppresses default constructor, ensuring non-instantiability.
+  private NumberFormatter() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns the number of characters of the decimal representation of {@code value}.
+   *
+   * @param value the value to measure
+   * @return the number of characters of {@code value}, sign included
+   */
+  public static int length(final long value) {
+    return value < 0 ? digits(value) + 1 : digits(-value);
+  }
+
+  /**
+   * Returns the number of digits of {@code -negative}, for {@code negative <= 0}.
+   */
+  private static int digits(final long negative) {
+    long power = -10;
+    for (int digits = 1; digits < 19; digits++) {
+      if (negative > power) {
+        return digits;
+      }
+      power *= 10;
+    }
+    return 19;
+  }
+
+  /**
+   * Writes the decimal representation of {@code value} into {@code dst} from {@code offset}.
+   *
+   * @param value the value to write
+   * @param dst the array to write into
+   * @param offset the index of the first character to write
+   * @return the index following the last character written
+   * @throws IndexOutOfBoundsException if {@code dst} has not enough room
+   */
+  public static int format(final long value, @Nonnull final char[] dst, final int offset) {
+    return format(value, 0, dst, offset);
+  }
+
+  /**
+   * Writes the decimal representation of {@code value} into {@code dst} from {@code offset},
+   * zero-padded after the sign up to {@code width} characters.
+   *
+   * @param value the value to write
+   * @param width the minimum number of characters to write, sign included
+   * @param dst the array to write into
+   * @param offset the index of the first character to write
+   * @return the index following the last character written
+   * @throws IllegalArgumentException if {@code width} is negative
+   * @throws IndexOutOfBoundsException if {@code dst} has not enough room
+   */
+  public static int format(final long value, final int width, @Nonnull final char[] dst,
+      final int offset) {
+    Preconditions.checkArgument(width >= 0, "The width must not be negative");
+    final long negative = value < 0 ? value : -value;
+    final int digits = digits(negative);
+    final int end = offset + Math.max(value < 0 ? digits + 1 : digits, width);
+    Preconditions.checkPositionIndexes(offset, end, dst.length);
+    int start = offset;
+    if (value < 0) {
+      dst[start++] = '-';
+    }
+    for (int i = start; i < end - digits; i++) {
+      dst[i] = '0';
+    }
+    putDigits(negative, dst, end);
+    return end;
+  }
+
+  /**
+   * Writes the digits of {@code -value}, for {@code value <= 0}, ending before {@code end}.
+   */
+  private static void putDigits(final long value, final char[] dst, final int end) {
+    // works on negative values, since -Long.MIN_VALUE overflows
+    long negative = value;
+    int position = end;
+    while (negative <= -100) {
+      final long quotient = negative / 100;
+      final int pair = 2 * (int) (quotient * 100 - negative);
+      negative = quotient;
+      dst[--position] = DIGIT_PAIRS[pair + 1];
+      dst[--position] = DIGIT_PAIRS[pair];
+    }
+    if (negative <= -10) {
+      dst[--position] = DIGIT_PAIRS[-2 * (int) negative + 1];
+      dst[--position] = DIGIT_PAIRS[-2 * (int) negative];
+    } else {
+      dst[--position] = (char) ('0' - negative);
+    }
+  }
+
+  /**
+   * Writes the ASCII decimal representation of {@code value} into {@code dst} from
+   * {@code offset}.
+   *
+   * @see #format(long, char[], int)
+   */
+  public static int format(final long value, @Nonnull final byte[] dst, final int offset) {
+    return format(value, 0, dst, offset);
+  }
+
+  /**
+   * Writes the ASCII decimal representation of {@code value} into {@code dst} from
+   * {@code offset}, zero-padded after the sign up to {@code width} characters.
+   *
+   * @see #format(long, int, char[], int)
+   */
+  public static int format(final long value, final int width, @Nonnull final byte[] dst,
+      final int offset) {
+    Preconditions.checkArgument(width >= 0, "The width must not be negative");
+    final char[] buffer = BUFFERS.get().chars;
+    final int length = format(value, 0, buffer, 0);
+    final int end = offset + Math.max(length, width);
+    Preconditions.checkPositionIndexes(offset, end, dst.length);
+    int start = offset;
+    int from = 0;
+    if (value < 0) {
+      dst[start++] = '-';
+      from = 1;
+    }
+    for (int i = start; i < end - length + from; i++) {
+      dst[i] = '0';
+    }
+    for (int i = from; i < length; i++) {
+      dst[end - length + i] = (byte) buffer[i];
+    }
+    return end;
+  }
+
+  /**
+   * Appends the decimal representation of {@code value} to {@code builder}, zero-padded after
+   * the sign up to {@code width} characters.
+   *
+   * @param builder the builder to append to
+   * @param value the value to append
+   * @param width the minimum number of characters to append, sign included
+   * @return {@code builder}
+   * @throws IllegalArgumentException if {@code width} is negative
+   */
+  @Nonnull
+  public static StringBuilder append(@Nonnull final StringBuilder builder, final long value,
+      final int width) {
+    Preconditions.checkArgument(width >= 0, "The width must not be negative");
+    final char[] buffer = BUFFERS.get().chars;
+    final int length = format(value, 0, buffer, 0);
+    int from = 0;
+    if (value < 0) {
+      builder.append('-');
+      from = 1;
+    }
+    for (int i = length; i < width; i++) {
+      builder.append('0');
+    }
+    return builder.append(buffer, from, length - from);
+  }
+
+  /**
+   * Writes the decimal representation of {@code value} into {@code dst} from {@code offset}, in
+   * the format of {@link Double#toString(double)} with the shortest digits which identify
+   * {@code value}.
+   *
+   * @param value the value to write
+   * @param dst the array to write into
+   * @param offset the index of the first character to write
+   * @return the index following the last character written
+   * @throws IndexOutOfBoundsException if {@code dst} has not enough room
+   */
+  public static int format(final double value, @Nonnull final char[] dst, final int offset) {
+    final Buffer buffer = BUFFERS.get();
+    final int length = buffer.formatDouble(value);
+    Preconditions.checkPositionIndexes(offset, offset + length, dst.length);
+    System.arraycopy(buffer.chars, 0, dst, offset, length);
+    return offset + length;
+  }
+
+  /**
+   * Writes the ASCII decimal representation of {@code value} into {@code dst} from
+   * {@code offset}.
+   *
+   * @see #format(double, char[], int)
+   */
+  public static int format(final double value, @Nonnull final byte[] dst, final int offset) {
+    final Buffer buffer = BUFFERS.get();
+    final int length = buffer.formatDouble(value);
+    Preconditions.checkPositionIndexes(offset, offset + length, dst.length);
+    for (int i = 0; i < length; i++) {
+      dst[offset + i] = (byte) buffer.chars[i];
+    }
+    return offset + length;
+  }
+
+  /**
+   * Appends the decimal representation of {@code value} to {@code builder}.
+   *
+   * @param builder the builder to append to
+   * @param value the value to append
+   * @return {@code builder}
+   * @see #format(double, char[], int)
+   */
+  @Nonnull
+  public static StringBuilder append(@Nonnull final StringBuilder builder, final double value) {
+    final Buffer buffer = BUFFERS.get();
+    return builder.append(buffer.chars, 0, buffer.formatDouble(value));
+  }
+
+  /**
+   * Returns {@code ceil(log2(5^e))}, or {@code 1} for {@code e == 0}.
+   */
+  private static int pow5bits(final int e) {
+    return (int) ((e * 1217359L) >>> 19) + 1;
+  }
+
+  /**
+   * Returns {@code floor(log10(2^e))}.
+   */
+  private static int log10Pow2(final int e) {
+    return (int) ((e * 78913L) >>> 18);
+  }
+
+  /**
+   * Returns {@code floor(log10(5^e))}.
+   */
+  private static int log10Pow5(final int e) {
+    return (int) ((e * 732923L) >>> 20);
+  }
+
+  private static int pow5Factor(final long value) {
+    long v = value;
+    int count = 0;
+    while (v % 5 == 0) {
+      v /= 5;
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Returns {@code (m * table[index]) >> shift}, where the entry of the table is a 128-bit
+   * multiplier, {@code m} is less than {@code 2^55} and the shift is in {@code (64, 128)}.
+   */
+  private static long mulShift(final long m, final long[] table, final int index,
+      final int shift) {
+    final long low = table[2 * index];
+    final long high = table[2 * index + 1];
+    // (m * low >> 64) + m * high, as a 128-bit number
+    final long carry = NumberParser.multiplyHigh(m, low);
+    final long productLow = m * high;
+    final long sumLow = productLow + carry;
+    final long sumHigh =
+        NumberParser.multiplyHigh(m, high) + (NumberParser.lessThanUnsigned(sumLow, carry) ? 1 : 0);
+    final int distance = shift - 64;
+    return sumLow >>> distance | sumHigh << (64 - distance);
+  }
+
+  /**
+   * The scratch space of a thread for writing doubles, which are measured only once written.
+   */
+  private static final class Buffer {
+    private final char[] chars = new char[32];
+    // the decimal exponent of the last shortest decimal computed
+    private int decimalExponent;
+
+    /**
+     * Writes {@code value} from the beginning of the buffer, returning the number of characters
+     * written.
+     */
+    private int formatDouble(final double value) {
+      final char[] buffer = chars;
+      final long bits = Double.doubleToRawLongBits(value);
+      final long ieeeMantissa = bits & (1L << MANTISSA_BITS) - 1;
+      final int ieeeExponent = (int) (bits >>> MANTISSA_BITS) & 0x7FF;
+      int position = 0;
+      if (ieeeExponent == 0x7FF) {
+        return copy(ieeeMantissa != 0 ? "NaN" : bits < 0 ? "-Infinity" : "Infinity", buffer);
+      }
+      if (bits < 0) {
+        buffer[position++] = '-';
+      }
+      if (ieeeExponent == 0 && ieeeMantissa == 0) {
+        buffer[position++] = '0';
+        buffer[position++] = '.';
+        buffer[position++] = '0';
+        return position;
+      }
+      // the shortest decimal output * 10^exponent
+      final long output = shortestDecimal(ieeeMantissa, ieeeExponent);
+      final int length = digits(-output);
+      // the exponent of the scientific notation
+      final int exponent = decimalExponent + length - 1;
+      if (exponent >= -3 && exponent < 7) {
+        if (exponent >= 0) {
+          // ddd.ddd, with at least one digit after the point
+          final int integers = exponent + 1;
+          if (length <= integers) {
+            putDigits(-output, buffer, position + length);
+            for (int i = length; i < integers; i++) {
+              buffer[position + i] = '0';
+            }
+            position += integers;
+            buffer[position++] = '.';
+            buffer[position++] = '0';
+          } else {
+            putDigits(-output, buffer, position + length + 1);
+            System.arraycopy(buffer, position + 1, buffer, position, integers);
+            buffer[position + integers] = '.';
+            position += length + 1;
+          }
+        } else {
+          // 0.000ddd
+          buffer[position++] = '0';
+          buffer[position++] = '.';
+          for (int i = -1; i > exponent; i--) {
+            buffer[position++] = '0';
+          }
+          putDigits(-output, buffer, position + length);
+          position += length;
+        }
+        return position;
+      }
+      // d.dddEn
+      putDigits(-output, buffer, position + length + 1);
+      buffer[position] = buffer[position + 1];
+      buffer[position + 1] = '.';
+      position += length + 1;
+      if (length == 1) {
+        buffer[position++] = '0';
+      }
+      buffer[position++] = 'E';
+      if (exponent < 0) {
+        buffer[position++] = '-';
+      }
+      final int absolute = Math.abs(exponent);
+      final int exponentLength = digits(-absolute);
+      putDigits(-absolute, buffer, position + exponentLength);
+      return position + exponentLength;
+    }
+
+    private static int copy(final String s, final char[] buffer) {
+      s.getChars(0, s.length(), buffer, 0);
+      return s.length();
+    }
+
+    /**
+     * Computes the shortest decimal {@code output * 10^exponent} which is rounded to the finite,
+     * non zero, positive double of the given fields, closest to the double, as in Ulf Adams' Ryu
+     * {@code d2d}: returns {@code output} and stores {@code exponent} into
+     * {@link #decimalExponent}.
+     */
+    private long shortestDecimal(final long ieeeMantissa, final int ieeeExponent) {
+      final int e2;
+      final long m2;
+      if (ieeeExponent == 0) {
+        e2 = 1 - EXPONENT_BIAS - MANTISSA_BITS - 2;
+        m2 = ieeeMantissa;
+      } else {
+        e2 = ieeeExponent - EXPONENT_BIAS - MANTISSA_BITS - 2;
+        m2 = 1L << MANTISSA_BITS | ieeeMantissa;
+      }
+      final boolean acceptBounds = (m2 & 1) == 0;
+      // the interval of the decimals rounded to the double is (4 * m2 - 1 - mmShift, 4 * m2 + 2)
+      final long mv = 4 * m2;
+      final int mmShift = ieeeMantissa != 0 || ieeeExponent <= 1 ? 1 : 0;
+      // converts the interval to a decimal power base
+      long vr;
+      long vp;
+      long vm;
+      final int e10;
+      boolean vmIsTrailingZeros = false;
+      boolean vrIsTrailingZeros = false;
+      if (e2 >= 0) {
+        final int q = log10Pow2(e2) - (e2 > 3 ? 1 : 0);
+        e10 = q;
+        final int k = POW5_INV_BITCOUNT + pow5bits(q) - 1;
+        final int i = -e2 + q + k;
+        vr = mulShift(mv, POW5_INV_SPLIT, q, i);
+        vp = mulShift(mv + 2, POW5_INV_SPLIT, q, i);
+        vm = mulShift(mv - 1 - mmShift, POW5_INV_SPLIT, q, i);
+        if (q <= 21) {
+          // only one of mp, mv and mm can be a multiple of 5, if any
+          if (mv % 5 == 0) {
+            vrIsTrailingZeros = pow5Factor(mv) >= q;
+          } else if (acceptBounds) {
+            vmIsTrailingZeros = pow5Factor(mv - 1 - mmShift) >= q;
+          } else if (pow5Factor(mv + 2) >= q) {
+            vp--;
+          }
+        }
+      } else {
+        final int q = log10Pow5(-e2) - (-e2 > 1 ? 1 : 0);
+        e10 = q + e2;
+        final int i = -e2 - q;
+        final int k = pow5bits(i) - POW5_BITCOUNT;
+        final int j = q - k;
+        vr = mulShift(mv, POW5_SPLIT, i, j);
+        vp = mulShift(mv + 2, POW5_SPLIT, i, j);
+        vm = mulShift(mv - 1 - mmShift, POW5_SPLIT, i, j);
+        if (q <= 1) {
+          // mv has at least q trailing zero bits, since e2 <= -2 here
+          vrIsTrailingZeros = true;
+          if (acceptBounds) {
+            vmIsTrailingZeros = mmShift == 1;
+          } else {
+            vp--;
+          }
+        } else if (q < 63) {
+          vrIsTrailingZeros = (mv & (1L << q) - 1) == 0;
+        }
+      }
+      // finds the shortest decimal in the interval
+      int removed = 0;
+      int lastRemovedDigit = 0;
+      long output;
+      if (vmIsTrailingZeros || vrIsTrailingZeros) {
+        // the rare general case
+        while (vp / 10 > vm / 10) {
+          vmIsTrailingZeros &= vm % 10 == 0;
+          vrIsTrailingZeros &= lastRemovedDigit == 0;
+          lastRemovedDigit = (int) (vr % 10);
+          vr /= 10;
+          vp /= 10;
+          vm /= 10;
+          removed++;
+        }
+        if (vmIsTrailingZeros) {
+          while (vm % 10 == 0) {
+            vrIsTrailingZeros &= lastRemovedDigit == 0;
+            lastRemovedDigit = (int) (vr % 10);
+            vr /= 10;
+            vp /= 10;
+            vm /= 10;
+            removed++;
+          }
+        }
+        if (vrIsTrailingZeros && lastRemovedDigit == 5 && vr % 2 == 0) {
+          // rounds to even if the exact number is .....50..0
+          lastRemovedDigit = 4;
+        }
+        output = vr;
+        if (vr == vm && (!acceptBounds || !vmIsTrailingZeros) || lastRemovedDigit >= 5) {
+          output++;
+        }
+      } else {
+        // the common case
+        boolean roundUp = false;
+        if (vp / 100 > vm / 100) {
+          // removes two digits at a time
+          roundUp = vr % 100 >= 50;
+          vr /= 100;
+          vp /= 100;
+          vm /= 100;
+          removed += 2;
+        }
+        while (vp / 10 > vm / 10) {
+          roundUp = vr % 10 >= 5;
+          vr /= 10;
+          vp /= 10;
+          vm /= 10;
+          removed++;
+        }
+        output = vr == vm || roundUp ? vr + 1 : vr;
+      }
+      decimalExponent = e10 + removed;
+      return output;
+    }
+  }
+}
@@ -0,0 +1,543 @@
+package com.github.mforoni.jbasic;
+
+import java.math.BigInteger;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * Parses {@code int}, {@code long} and {@code double} values straight from ranges of
+ * {@code CharSequence}, {@code char[]} or ASCII {@code byte[]}, without creating strings.
+ * <p>
+ * Each parse method returns the parsed primitive and sets the {@link #status()} of the parser:
+ * when the status is not {@link Status#OK} the returned value is {@code 0}. The integers are
+ * parsed with the same rules of {@link com.google.common.primitives.Ints#tryParse(String)}: an
+ * optional {@code '-'} followed by at least one ASCII digit. The doubles are decimal numbers with
+ * an optional sign, fraction and exponent, as {@code "-12.5e3"}, or {@code "NaN"} and
+ * {@code "Infinity"}: they are converted by the
+ * <a href="https://arxiv.org/abs/2101.11408">Eisel-Lemire</a> algorithm, which multiplies the
+ * decimal significand by a 128-bit approximation of the power of ten and rounds the product
+ * correctly; only significands of more than 19 digits fall back to
+ * {@link Double#parseDouble(String)}.
+ * <p>
+ * A parser keeps the status of the last call and reuses its own views over the arrays, therefore
+ * an instance must not be shared by concurrent threads: create one per thread, or use
+ * {@link #get()}.
+ *
+ * @author Foroni Marco
+ * @see JFunctions#CHAR_SEQUENCE_TO_INTEGER
+ */
+@Beta
+@NotThreadSafe
+public final class NumberParser {
+  /**
+   * The outcome of the last parse.
+   */
+  public enum Status {
+    /** The value has been parsed. */
+    OK,
+    /** The range is empty. */
+    EMPTY,
+    /** The range does not contain a number. */
+    INVALID,
+    /** The number is out of the range of the parsed type. */
+    OVERFLOW
+  }
+
+  private static final ThreadLocal<NumberParser> PARSERS = new ThreadLocal<NumberParser>() {
+    @Override
+    protected NumberParser initialValue() {
+      return new NumberParser();
+    }
+  };
+  private static final int MAX_DIGITS = 19;
+  private static final int SMALLEST_POWER_OF_TEN = -342;
+  private static final int LARGEST_POWER_OF_TEN = 308;
+  private static final double[] EXACT_POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7,
+      1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+  // the 128 most significant bits of 5^q, truncated for q >= 0 and rounded up for q < 0
+  private static final long[] POWERS_OF_FIVE =
+      new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+
+  static {
+    final BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+    for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+      BigInteger power;
+      if (q < 0) {
+        final BigInteger power5 = BigInteger.valueOf(5).pow(-q);
+        final int z = power5.bitLength();
+        final int b = q >= -27 ? z + 127 : 2 * z + 128;
+        power = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+        while (power.compareTo(two128) >= 0) {
+          power = power.shiftRight(1);
+        }
+      } else {
+        power = BigInteger.valueOf(5).pow(q);
+        power = power.bitLength() < 128 ? power.shiftLeft(128 - power.bitLength())
+            : power.shiftRight(power.bitLength() - 128);
+      }
+      final int i = 2 * (q - SMALLEST_POWER_OF_TEN);
+      POWERS_OF_FIVE[i] = power.shiftRight(64).longValue();
+      POWERS_OF_FIVE[i + 1] = power.longValue();
+    }
+  }
+
+  private final CharArraySlice charSlice = new CharArraySlice();
+  private final ByteArraySlice byteSlice = new ByteArraySlice();
+  private Status status = Status.OK;
+
+  /**
+   * Returns the {@code NumberParser} of the current thread.
+   *
+   * @return the {@code NumberParser} of the current thread
+   */
+  @Nonnull
+  public static NumberParser get() {
+    return PARSERS.get();
+  }
+
+  /**
+   * Returns the status of the last parse.
+   *
+   * @return the status of the last parse
+   */
+  @Nonnull
+  public Status status() {
+    return status;
+  }
+
+  /**
+   * Parses an {@code int} from the whole sequence {@code s}.
+   *
+   * @param s the sequence to parse
+   * @return the parsed value, or {@code 0} if the status is not {@link Status#OK}
+   */
+  public int parseInt(@Nonnull final CharSequence s) {
+    return parseInt(s, 0, s.length());
+  }
+
+  /**
+   * Parses an {@code int} from the range {@code [from, to)} of the sequence {@code s}.
+   *
+   * @param s the sequence to parse
+   * @param from the index of the first character, inclusive
+   * @param to the index of the last character, exclusive
+   * @return the parsed value, or {@code 0} if the status is not {@link Status#OK}
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  public int parseInt(@Nonnull final CharSequence s, final int from, final int to) {
+    final long value = parseLong(s, from, to);
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      status = Status.OVERFLOW;
+      return 0;
+    }
+    return (int) value;
+  }
+
+  /**
+   * Parses an {@code int} from the range {@code [from, to)} of the array {@code a}.
+   *
+   * @see #parseInt(CharSequence, int, int)
+   */
+  public int parseInt(@Nonnull final char[] a, final int from, final int to) {
+    return parseInt(charSlice.of(a), from, to);
+  }
+
+  /**
+   * Parses an {@code int} from the ASCII bytes in the range {@code [from, to)} of the array
+   * {@code a}.
+   *
+   * @see #parseInt(CharSequence, int, int)
+   */
+  public int parseInt(@Nonnull final byte[] a, final int from, final int to) {
+    return parseInt(byteSlice.of(a), from, to);
+  }
+
+  /**
+   * Parses a {@code long} from the whole sequence {@code s}.
+   *
+   * @param s the sequence to parse
+   * @return the parsed value, or {@code 0} if the status is not {@link Status#OK}
+   */
+  public long parseLong(@Nonnull final CharSequence s) {
+    return parseLong(s, 0, s.length());
+  }
+
+  /**
+   * Parses a {@code long} from the range {@code [from, to)} of the sequence {@code s}.
+   *
+   * @param s the sequence to parse
+   * @param from the index of the first character, inclusive
+   * @param to the index of the last character, exclusive
+   * @return the parsed value, or {@code 0} if the status is not {@link Status#OK}
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  public long parseLong(@Nonnull final CharSequence s, final int from, final int to) {
+    Preconditions.checkPositionIndexes(from, to, s.length());
+    if (from == to) {
+      return fail(Status.EMPTY);
+    }
+    final boolean negative = s.charAt(from) == '-';
+    int i = negative ? from + 1 : from;
+    if (i == to) {
+      return fail(Status.INVALID);
+    }
+    // accumulates negatively, since the negative range is the largest
+    final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    final long multiplyLimit = limit / 10;
+    long value = 0;
+    boolean overflow = false;
+    for (; i < to; i++) {
+      final char c = s.charAt(i);
+      if (!isDigit(c)) {
+        return fail(Status.INVALID);
+      }
+      final int digit = c - '0';
+      // once overflown, checks only that the rest are digits
+      if (!overflow) {
+        if (value < multiplyLimit || value * 10 < limit + digit) {
+          overflow = true;
+        } else {
+          value = value * 10 - digit;
+        }
+      }
+    }
+    if (overflow) {
+      return fail(Status.OVERFLOW);
+    }
+    status = Status.OK;
+    return negative ? value : -value;
+  }
+
+  /**
+   * Parses a {@code long} from the range {@code [from, to)} of the array {@code a}.
+   *
+   * @see #parseLong(CharSequence, int, int)
+   */
+  public long parseLong(@Nonnull final char[] a, final int from, final int to) {
+    return parseLong(charSlice.of(a), from, to);
+  }
+
+  /**
+   * Parses a {@code long} from the ASCII bytes in the range {@code [from, to)} of the array
+   * {@code a}.
+   *
+   * @see #parseLong(CharSequence, int, int)
+   */
+  public long parseLong(@Nonnull final byte[] a, final int from, final int to) {
+    return parseLong(byteSlice.of(a), from, to);
+  }
+
+  private long fail(final Status status) {
+    this.status = status;
+    return 0;
+  }
+
+  /**
+   * Parses a {@code double} from the whole sequence {@code s}.
+   *
+   * @param s the sequence to parse
+   * @return the parsed value, or {@code 0} if the status is not {@link Status#OK}
+   */
+  public double parseDouble(@Nonnull final CharSequence s) {
+    return parseDouble(s, 0, s.length());
+  }
+
+  /**
+   * Parses a {@code double} from the range {@code [from, to)} of the sequence {@code s}. The
+   * result is the same of {@link Double#parseDouble(String)}, i.e. the nearest {@code double}; the
+   * numbers too large for a {@code double} are parsed as infinity.
+   *
+   * @param s the sequence to parse
+   * @param from the index of the first character, inclusive
+   * @param to the index of the last character, exclusive
+   * @return the parsed value, or {@code 0} if the status is not {@link Status#OK}
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  public double parseDouble(@Nonnull final CharSequence s, final int from, final int to) {
+    Preconditions.checkPositionIndexes(from, to, s.length());
+    if (from == to) {
+      return fail(Status.EMPTY);
+    }
+    final char sign = s.charAt(from);
+    final boolean negative = sign == '-';
+    int i = negative || sign == '+' ? from + 1 : from;
+    if (i < to && (s.charAt(i) == 'N' || s.charAt(i) == 'I')) {
+      final double special = parseSpecial(s, i, to);
+      return negative ? -special : special;
+    }
+    long significand = 0;
+    // the significant digits, i.e. without the leading zeros
+    int digits = 0;
+    int exponent = 0;
+    final int start = i;
+    // the integer part
+    for (; i < to && isDigit(s.charAt(i)); i++) {
+      if (digits < MAX_DIGITS) {
+        significand = significand * 10 + s.charAt(i) - '0';
+      }
+      if (significand != 0) {
+        digits++;
+      }
+    }
+    boolean anyDigit = i > start;
+    // the fraction
+    if (i < to && s.charAt(i) == '.') {
+      final int fractionStart = ++i;
+      for (; i < to && isDigit(s.charAt(i)); i++) {
+        if (digits < MAX_DIGITS) {
+          significand = significand * 10 + s.charAt(i) - '0';
+          exponent--;
+        }
+        if (significand != 0) {
+          digits++;
+        }
+      }
+      anyDigit |= i > fractionStart;
+    }
+    if (!anyDigit) {
+      return fail(Status.INVALID);
+    }
+    // the exponent
+    if (i < to && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+      i++;
+      final boolean negativeExponent = i < to && s.charAt(i) == '-';
+      if (i < to && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+        i++;
+      }
+      if (i == to) {
+        return fail(Status.INVALID);
+      }
+      int explicit = 0;
+      for (; i < to && isDigit(s.charAt(i)); i++) {
+        // beyond this, the value is 0 or infinity anyway
+        if (explicit < 100000) {
+          explicit = explicit * 10 + s.charAt(i) - '0';
+        }
+      }
+      exponent += negativeExponent ? -explicit : explicit;
+    }
+    if (i != to) {
+      return fail(Status.INVALID);
+    }
+    if (digits > MAX_DIGITS) {
+      return parseSlowly(s, from, to);
+    }
+    status = Status.OK;
+    final double value = toDouble(significand, exponent);
+    return negative ? -value : value;
+  }
+
+  /**
+   * Parses a {@code double} from the range {@code [from, to)} of the array {@code a}.
+   *
+   * @see #parseDouble(CharSequence, int, int)
+   */
+  public double parseDouble(@Nonnull final char[] a, final int from, final int to) {
+    return parseDouble(charSlice.of(a), from, to);
+  }
+
+  /**
+   * Parses a {@code double} from the ASCII bytes in the range {@code [from, to)} of the array
+   * {@code a}.
+   *
+   * @see #parseDouble(CharSequence, int, int)
+   */
+  public double parseDouble(@Nonnull final byte[] a, final int from, final int to) {
+    return parseDouble(byteSlice.of(a), from, to);
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private double parseSpecial(final CharSequence s, final int from, final int to) {
+    if (regionMatches(s, from, to, "NaN")) {
+      status = Status.OK;
+      return Double.NaN;
+    }
+    if (regionMatches(s, from, to, "Infinity")) {
+      status = Status.OK;
+      return Double.POSITIVE_INFINITY;
+    }
+    return fail(Status.INVALID);
+  }
+
+  private static boolean regionMatches(final CharSequence s, final int from, final int to,
+      final String expected) {
+    if (to - from != expected.length()) {
+      return false;
+    }
+    for (int i = 0; i < expected.length(); i++) {
+      if (s.charAt(from + i) != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private double parseSlowly(final CharSequence s, final int from, final int to) {
+    status = Status.OK;
+    return Double.parseDouble(s.subSequence(from, to).toString());
+  }
+
+  /**
+   * Returns the {@code double} nearest to {@code significand * 10^exponent}, where
+   * {@code significand} is unsigned: up to 19 digits it may exceed {@link Long#MAX_VALUE}.
+   */
+  static double toDouble(final long significand, final int exponent) {
+    if (significand == 0 || exponent < SMALLEST_POWER_OF_TEN) {
+      return 0;
+    }
+    if (exponent > LARGEST_POWER_OF_TEN) {
+      return Double.POSITIVE_INFINITY;
+    }
+    // Clinger's fast path: both the significand and the power of ten are exact doubles
+    if (exponent >= -22 && exponent <= 22 && significand >= 0
+        && significand <= 1L << 53) {
+      return exponent < 0 ? significand / EXACT_POWERS_OF_TEN[-exponent]
+          : significand * EXACT_POWERS_OF_TEN[exponent];
+    }
+    return Double.longBitsToDouble(eiselLemire(significand, exponent));
+  }
+
+  /**
+   * Returns the bits of the {@code double} nearest to {@code w * 10^q}, for {@code w != 0} and
+   * {@code q} in the range of the table of powers of five.
+   */
+  private static long eiselLemire(final long w, final int q) {
+    final int lz = Long.numberOfLeadingZeros(w);
+    final long normalized = w << lz;
+    final int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+    // the 128 most significant bits of normalized * 5^q
+    long high = multiplyHigh(normalized, POWERS_OF_FIVE[index]);
+    long low = normalized * POWERS_OF_FIVE[index];
+    // 9 = 64 - (52 + 3) bits beyond the mantissa, the rounding and the upper bits
+    final long precisionMask = 0x1FFL;
+    if ((high & precisionMask) == precisionMask) {
+      // the truncated bits of the power may change the result: includes the next 64 bits
+      final long second = multiplyHigh(normalized, POWERS_OF_FIVE[index + 1]);
+      low += second;
+      if (lessThanUnsigned(low, second)) {
+        high++;
+      }
+    }
+    final int upperBit = (int) (high >>> 63);
+    long mantissa = high >>> (upperBit + 9);
+    // power(q) = floor(q * log2(10)) + 63, minus the double exponent bias 1023 - 1
+    int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - lz + 1023;
+    if (power2 <= 0) {
+      // subnormal
+      if (-power2 + 1 >= 64) {
+        return 0;
+      }
+      mantissa >>>= -power2 + 1;
+      mantissa += mantissa & 1;
+      mantissa >>>= 1;
+      power2 = mantissa < 1L << 52 ? 0 : 1;
+      return (long) power2 << 52 | mantissa & ~(1L << 52);
+    }
+    // halfway between two doubles, in the only range where it is possible: rounds to even
+    if ((low == 0 || low == 1) && q >= -4 && q <= 23 && (mantissa & 3) == 1
+        && mantissa << (upperBit + 9) == high) {
+      mantissa &= ~1L;
+    }
+    mantissa += mantissa & 1;
+    mantissa >>>= 1;
+    if (mantissa >= 2L << 52) {
+      mantissa = 1L << 52;
+      power2++;
+    }
+    if (power2 >= 0x7FF) {
+      return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+    }
+    return (long) power2 << 52 | mantissa & ~(1L << 52);
+  }
+
+  /**
+   * Returns the 64 most significant bits of the unsigned 128-bit product of {@code x} and
+   * {@code y}.
+   */
+  static long multiplyHigh(final long x, final long y) {
+    final long x0 = x & 0xFFFFFFFFL;
+    final long x1 = x >>> 32;
+    final long y0 = y & 0xFFFFFFFFL;
+    final long y1 = y >>> 32;
+    final long p01 = x0 * y1;
+    final long middle = x1 * y0 + (x0 * y0 >>> 32) + (p01 & 0xFFFFFFFFL);
+    return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+  }
+
+  static boolean lessThanUnsigned(final long a, final long b) {
+    return (a ^ Long.MIN_VALUE) < (b ^ Long.MIN_VALUE);
+  }
+
+  /**
+   * A reusable view over a whole {@code char[]}.
+   */
+  private static final class CharArraySlice implements CharSequence {
+    private char[] a;
+
+    private CharSequence of(final char[] a) {
+      this.a = a;
+      return this;
+    }
+
+    @Override
+    public int length() {
+      return a.length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+      return a[index];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+      return new String(a, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+      return new String(a);
+    }
+  }
+
+  /**
+   * A reusable view over a whole {@code byte[]} of ASCII characters.
+   */
+  private static final class ByteArraySlice implements CharSequence {
+    private byte[] a;
+
+    private CharSequence of(final byte[] a) {
+      this.a = a;
+      return this;
+    }
+
+    @Override
+    public int length() {
+      return a.length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+      return (char) (a[index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+      final char[] chars = new char[end - start];
+      for (int i = 0; i < chars.length; i++) {
+        chars[i] = charAt(start + i);
+      }
+      return new String(chars);
+    }
+
+    @Override
+    public String toString() {
+      return subSequence(0, a.length).toString();
+    }
+  }
+}
@@ -0,0 +1,301 @@
+package com.github.mforoni.jbasic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * An immutable {@code List} of strings packed one after the other in a single backing array, with
+ * an {@code int[]} of offsets delimiting them.
+ * <p>
+ * The backing array is a {@code byte[]} holding one byte per character when all the strings are
+ * in the Latin-1 range, a {@code char[]} otherwise. Instead of one {@code String} and one array per
+ * element, a list of {@code n} strings takes two arrays, so large read-only lists take a fraction
+ * of the heap and are scanned sequentially in memory. Each {@code String} is created only when
+ * the element is requested by {@link #get(int)}; {@link #charSequence(int)} returns a view of the
+ * element which copies nothing.
+ * <p>
+ * Since the characters of all the elements are packed in a single array, their total length
+ * cannot exceed {@link Integer#MAX_VALUE}, i.e. {@code 2^31 - 1} characters.
+ *
+ * @author Foroni Marco
+ * @see com.github.mforoni.jbasic.io.JFiles#readPackedLines(java.nio.file.Path)
+ */
+@Beta
+@Immutable
+public final class PackedStringList extends AbstractList<String> implements RandomAccess {
+  @Nullable
+  private final byte[] bytes;
+  @Nullable
+  private final char[] chars;
+  private final int[] offsets;
+  private final int size;
+
+  private PackedStringList(@Nullable final byte[] bytes, @Nullable final char[] chars,
+      final int[] offsets, final int size) {
+    this.bytes = bytes;
+    this.chars = chars;
+    this.offsets = offsets;
+    this.size = size;
+  }
+
+  /**
+   * Returns a {@code PackedStringList} of the given sequences, in iteration order.
+   *
+   * @param elements the sequences to pack
+   * @return a {@code PackedStringList} of the given sequences
+   * @throws NullPointerException if an element is <tt>null</tt>
+   */
+  @Nonnull
+  public static PackedStringList copyOf(@Nonnull final Iterable<? extends CharSequence> elements) {
+    final Builder builder = new Builder();
+    for (final CharSequence element : elements) {
+      builder.add(element);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns a new {@link Builder}, to pack the strings as they are produced.
+   *
+   * @return a new {@code Builder}
+   */
+  @Nonnull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns a new {@code String} equal to the element at the specified position.
+   *
+   * @param index the index of the element
+   * @return the element at the specified position
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  @Override
+  public String get(final int index) {
+    Preconditions.checkElementIndex(index, size);
+    final int from = offsets[index];
+    final int length = offsets[index + 1] - from;
+    return bytes != null ? new String(bytes, from, length, StandardCharsets.ISO_8859_1)
+        : new String(chars, from, length);
+  }
+
+  /**
+   * Returns the length of the element at the specified position, without creating it.
+   *
+   * @param index the index of the element
+   * @return the length of the element at the specified position
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  public int length(final int index) {
+    Preconditions.checkElementIndex(index, size);
+    return offsets[index + 1] - offsets[index];
+  }
+
+  /**
+   * Returns a view of the element at the specified position, reading the backing array of this
+   * list.
+   *
+   * @param index the index of the element
+   * @return a {@code CharSequence} view of the element at the specified position
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  @Nonnull
+  public CharSequence charSequence(final int index) {
+    Preconditions.checkElementIndex(index, size);
+    return new View(offsets[index], offsets[index + 1]);
+  }
+
+  @Override
+  public int indexOf(@Nullable final Object o) {
+    return o instanceof String ? indexOfContent((String) o) : -1;
+  }
+
+  @Override
+  public int lastIndexOf(@Nullable final Object o) {
+    if (o instanceof String) {
+      for (int i = size - 1; i >= 0; i--) {
+        if (contentEquals(i, (String) o)) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean contains(@Nullable final Object o) {
+    return indexOf(o) != -1;
+  }
+
+  /**
+   * Returns the index of the first element having the same characters of {@code s}, without
+   * creating the elements. Unlike {@link #indexOf(Object)}, which as required by {@code List} finds
+   * only the elements equal to a {@code String}, any {@code CharSequence} may be given.
+   *
+   * @param s the characters to search for
+   * @return the index of the first element with the characters of {@code s}, or {@code -1} if
+   *         there is no such element
+   * @throws NullPointerException if {@code s} is <tt>null</tt>
+   */
+  public int indexOfContent(@Nonnull final CharSequence s) {
+    Preconditions.checkNotNull(s);
+    for (int i = 0; i < size; i++) {
+      if (contentEquals(i, s)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns <tt>true</tt> if the element at the specified position has the same characters of
+   * {@code s}, without creating it.
+   */
+  private boolean contentEquals(final int index, final CharSequence s) {
+    final int from = offsets[index];
+    if (offsets[index + 1] - from != s.length()) {
+      return false;
+    }
+    for (int i = 0; i < s.length(); i++) {
+      if (charAt(from + i) != s.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private char charAt(final int position) {
+    return bytes != null ? (char) (bytes[position] & 0xFF) : chars[position];
+  }
+
+  /**
+   * A view over the range {@code [start, end)} of the backing array.
+   */
+  private final class View implements CharSequence {
+    private final int start;
+    private final int end;
+
+    private View(final int start, final int end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public int length() {
+      return end - start;
+    }
+
+    @Override
+    public char charAt(final int index) {
+      Preconditions.checkElementIndex(index, end - start);
+      return PackedStringList.this.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int from, final int to) {
+      Preconditions.checkPositionIndexes(from, to, end - start);
+      return new View(start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+      return bytes != null ? new String(bytes, start, end - start, StandardCharsets.ISO_8859_1)
+          : new String(chars, start, end - start);
+    }
+  }
+
+  /**
+   * A builder of {@link PackedStringList}, packing the strings as they are added. The backing
+   * array holds bytes until the first character outside the Latin-1 range is added.
+   */
+  public static final class Builder {
+    @Nullable
+    private byte[] bytes = new byte[256];
+    @Nullable
+    private char[] chars;
+    private int length;
+    private int[] offsets = new int[16];
+    private int size;
+
+    private Builder() {}
+
+    /**
+     * Adds the given sequence at the end of the list.
+     *
+     * @param s the sequence to add
+     * @return this builder
+     * @throws NullPointerException if {@code s} is <tt>null</tt>
+     * @throws OutOfMemoryError if the total length of the strings would exceed
+     *         {@link Integer#MAX_VALUE}
+     */
+    @Nonnull
+    public Builder add(@Nonnull final CharSequence s) {
+      final long total = (long) length + s.length();
+      if (total > Integer.MAX_VALUE || size + 2 < 0) {
+        throw new OutOfMemoryError(
+            "PackedStringList length overflow: " + total + " characters in " + (size + 1L)
+                + " strings");
+      }
+      final int newLength = (int) total;
+      if (bytes != null && !Latin1String.canEncode(s)) {
+        chars = new char[Math.max(newLength, bytes.length)];
+        for (int i = 0; i < length; i++) {
+          chars[i] = (char) (bytes[i] & 0xFF);
+        }
+        bytes = null;
+      }
+      if (bytes != null) {
+        if (newLength > bytes.length) {
+          bytes = Arrays.copyOf(bytes, capacity(bytes.length, newLength));
+        }
+        for (int i = 0; i < s.length(); i++) {
+          bytes[length + i] = (byte) s.charAt(i);
+        }
+      } else {
+        if (newLength > chars.length) {
+          chars = Arrays.copyOf(chars, capacity(chars.length, newLength));
+        }
+        for (int i = 0; i < s.length(); i++) {
+          chars[length + i] = s.charAt(i);
+        }
+      }
+      length = newLength;
+      if (size + 2 > offsets.length) {
+        offsets = Arrays.copyOf(offsets, capacity(offsets.length, size + 2));
+      }
+      offsets[++size] = length;
+      return this;
+    }
+
+    private static int capacity(final int capacity, final int minimum) {
+      final int grown = capacity + (capacity >> 1);
+      return grown < 0 ? Integer.MAX_VALUE : Math.max(grown, minimum);
+    }
+
+    /**
+     * Returns a {@code PackedStringList} of the strings added so far, trimming the backing arrays
+     * to their size.
+     *
+     * @return a {@code PackedStringList} of the strings added
+     */
+    @Nonnull
+    public PackedStringList build() {
+      return new PackedStringList(bytes != null ? Arrays.copyOf(bytes, length) : null,
+          chars != null ? Arrays.copyOf(chars, length) : null, Arrays.copyOf(offsets, size + 1),
+          size);
+    }
+  }
+}
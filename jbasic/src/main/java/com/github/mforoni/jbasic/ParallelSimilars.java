@@ -0,0 +1,172 @@
+package com.github.mforoni.jbasic;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.google.common.base.Preconditions;
+import info.debatty.java.stringsimilarity.interfaces.MetricStringDistance;
+
+/**
+ * The fork-join implementation of {@link JStrings#parallelSimilars(String, Collection,
+ * MetricStringDistance, ForkJoinPool)}.
+ *
+ * @author Foroni Marco
+ */
+final class ParallelSimilars extends RecursiveTask<ParallelSimilars.Result> {
+  private static final long serialVersionUID = 1L;
+  /** The number of strings under which a task is not split any further. */
+  static final int SEQUENTIAL_THRESHOLD = 1 << 11;
+
+  private final String key;
+  private final List<String> strings;
+  private final int fromIndex;
+  private final int toIndex;
+  private final MetricStringDistance metricStringDistance;
+  @Nullable
+  private final BoundedStringDistance boundedStringDistance;
+  private final SharedMinimum sharedMinimum;
+
+  private ParallelSimilars(final String key, final List<String> strings, final int fromIndex,
+      final int toIndex, final MetricStringDistance metricStringDistance,
+      @Nullable final BoundedStringDistance boundedStringDistance,
+      final SharedMinimum sharedMinimum) {
+    this.key = key;
+    this.strings = strings;
+    this.fromIndex = fromIndex;
+    this.toIndex = toIndex;
+    this.metricStringDistance = metricStringDistance;
+    this.boundedStringDistance = boundedStringDistance;
+    this.sharedMinimum = sharedMinimum;
+  }
+
+  /**
+   * Returns the {@link ForkJoinPool} used when none is specified, created on first use.
+   */
+  static ForkJoinPool pool() {
+    return PoolHolder.POOL;
+  }
+
+  @Nonnull
+  static Set<String> similars(@Nonnull final String key,
+      @Nonnull final Collection<String> collection,
+      @Nonnull final MetricStringDistance metricStringDistance, @Nonnull final ForkJoinPool pool) {
+    Preconditions.checkNotNull(key);
+    Preconditions.checkNotNull(collection);
+    Preconditions.checkNotNull(metricStringDistance);
+    Preconditions.checkNotNull(pool);
+    final List<String> strings = asRandomAccessList(collection);
+    final BoundedStringDistance boundedStringDistance = JStrings.asBounded(metricStringDistance);
+    final ParallelSimilars task = new ParallelSimilars(key, strings, 0, strings.size(),
+        metricStringDistance, boundedStringDistance, new SharedMinimum());
+    return pool.invoke(task).similars;
+  }
+
+  private static List<String> asRandomAccessList(final Collection<String> collection) {
+    if (collection instanceof List && collection instanceof RandomAccess) {
+      return (List<String>) collection;
+    }
+    return Arrays.asList(collection.toArray(new String[collection.size()]));
+  }
+
+  @Override
+  protected Result compute() {
+    if (toIndex - fromIndex <= SEQUENTIAL_THRESHOLD) {
+      return boundedStringDistance != null ? computeBounded() : computeDirectly();
+    }
+    final int middle = (fromIndex + toIndex) >>> 1;
+    final ParallelSimilars left = new ParallelSimilars(key, strings, fromIndex, middle,
+        metricStringDistance, boundedStringDistance, sharedMinimum);
+    final ParallelSimilars right = new ParallelSimilars(key, strings, middle, toIndex,
+        metricStringDistance, boundedStringDistance, sharedMinimum);
+    left.fork();
+    final Result rightResult = right.compute();
+    return left.join().merge(rightResult);
+  }
+
+  private Result computeDirectly() {
+    final Result result = new Result();
+    for (int i = fromIndex; i < toIndex; i++) {
+      final String s = strings.get(i);
+      final double distance = metricStringDistance.distance(s, key);
+      if (distance <= result.min && distance <= sharedMinimum.get()) {
+        result.add(s, distance);
+        sharedMinimum.lower(distance);
+      }
+    }
+    return result;
+  }
+
+  private Result computeBounded() {
+    final Result result = new Result();
+    for (int i = fromIndex; i < toIndex; i++) {
+      final String s = strings.get(i);
+      final double min = Math.min(result.min, sharedMinimum.get());
+      final int threshold = min >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) min;
+      final int distance = boundedStringDistance.distance(s, key, threshold);
+      if (distance != -1) {
+        result.add(s, distance);
+        sharedMinimum.lower(distance);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The strings found by a task, all having the minimum distance {@code min}.
+   */
+  static final class Result {
+    private final Set<String> similars = new HashSet<>();
+    private double min = Double.MAX_VALUE;
+
+    private void add(final String s, final double distance) {
+      if (distance < min) {
+        min = distance;
+        similars.clear();
+        similars.add(s);
+      } else if (distance == min) {
+        similars.add(s);
+      }
+    }
+
+    private Result merge(final Result other) {
+      if (other.min < min) {
+        return other;
+      } else if (other.min == min) {
+        similars.addAll(other.similars);
+      }
+      return this;
+    }
+  }
+
+  /**
+   * The minimum distance found so far by all the tasks. Since distances are never negative, the
+   * ordering of their bits as {@code long} is the same of their ordering as {@code double}.
+   */
+  private static final class SharedMinimum {
+    private final AtomicLong bits = new AtomicLong(Double.doubleToLongBits(Double.MAX_VALUE));
+
+    private double get() {
+      return Double.longBitsToDouble(bits.get());
+    }
+
+    private void lower(final double distance) {
+      final long distanceBits = Double.doubleToLongBits(distance);
+      long current = bits.get();
+      while (distanceBits < current && !bits.compareAndSet(current, distanceBits)) {
+        current = bits.get();
+      }
+    }
+  }
+
+  private static final class PoolHolder {
+    private static final ForkJoinPool POOL = new ForkJoinPool();
+  }
+}
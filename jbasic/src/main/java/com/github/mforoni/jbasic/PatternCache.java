@@ -0,0 +1,198 @@
+package com.github.mforoni.jbasic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * A bounded cache of compiled regular expressions, so that the same pattern strings given over
+ * and over to the regex methods are compiled only once.
+ * <p>
+ * The compiled {@link Pattern} objects are kept in a concurrent cache which discards the least
+ * recently used ones beyond its maximum size and records the number of hits and misses. Since a
+ * {@link Matcher} is not thread safe, each thread also keeps the matchers of its most recently
+ * used patterns, and {@link #matches(CharSequence, String)} and
+ * {@link #find(CharSequence, String)} reuse them through {@link Matcher#reset(CharSequence)}
+ * instead of creating a new one per call.
+ *
+ * @author Foroni Marco
+ * @see JStrings#matches(String, String)
+ */
+@Beta
+@ThreadSafe
+public final class PatternCache {
+  private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+  private static final int MATCHERS_PER_THREAD = 16;
+  private static final PatternCache SHARED = new PatternCache(DEFAULT_MAXIMUM_SIZE);
+
+  private final LoadingCache<String, Pattern> patterns;
+  private final ThreadLocal<Map<Pattern, Matcher>> matchers;
+
+  private PatternCache(final int maximumSize) {
+    patterns = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats()
+        .build(new CacheLoader<String, Pattern>() {
+          @Override
+          public Pattern load(final String regex) {
+            return Pattern.compile(regex);
+          }
+        });
+    matchers = new ThreadLocal<Map<Pattern, Matcher>>() {
+      @Override
+      protected Map<Pattern, Matcher> initialValue() {
+        return new LinkedHashMap<Pattern, Matcher>(MATCHERS_PER_THREAD, 0.75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Pattern, Matcher> eldest) {
+            return size() > MATCHERS_PER_THREAD;
+          }
+        };
+      }
+    };
+  }
+
+  /**
+   * Returns the {@code PatternCache} shared by the whole application, holding up to
+   * {@value #DEFAULT_MAXIMUM_SIZE} patterns.
+   *
+   * @return the shared {@code PatternCache}
+   */
+  @Nonnull
+  public static PatternCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns a new {@code PatternCache} holding up to {@code maximumSize} patterns.
+   *
+   * @param maximumSize the maximum number of compiled patterns to keep
+   * @return a new {@code PatternCache}
+   * @throws IllegalArgumentException if {@code maximumSize} is not positive
+   */
+  @Nonnull
+  public static PatternCache create(final int maximumSize) {
+    Preconditions.checkArgument(maximumSize > 0, "The maximum size must be positive");
+    return new PatternCache(maximumSize);
+  }
+
+  /**
+   * Returns the compiled form of the given regular expression, compiling it only if it is not in
+   * the cache.
+   *
+   * @param regex the regular expression to compile
+   * @return the compiled {@code Pattern} of {@code regex}
+   * @throws java.util.regex.PatternSyntaxException if the syntax of {@code regex} is not valid
+   * @see Pattern#compile(String)
+   */
+  @Nonnull
+  public Pattern compile(@Nonnull final String regex) {
+    try {
+      return patterns.getUnchecked(regex);
+    } catch (final UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Returns a {@code Matcher} of the given regular expression over {@code input}, reused among
+   * the calls of the current thread: it must not be used after the next call to this cache.
+   *
+   * @param regex the regular expression to match
+   * @param input the sequence to match against
+   * @return the {@code Matcher} of the current thread, reset to {@code input}
+   * @throws java.util.regex.PatternSyntaxException if the syntax of {@code regex} is not valid
+   */
+  @Nonnull
+  public Matcher matcher(@Nonnull final String regex, @Nonnull final CharSequence input) {
+    final Pattern pattern = compile(regex);
+    final Map<Pattern, Matcher> threadMatchers = matchers.get();
+    final Matcher matcher = threadMatchers.get(pattern);
+    if (matcher == null) {
+      final Matcher created = pattern.matcher(input);
+      threadMatchers.put(pattern, created);
+      return created;
+    }
+    return matcher.reset(input);
+  }
+
+  /**
+   * Returns <tt>true</tt> if the whole {@code input} matches the given regular expression, as
+   * {@link Pattern#matches(String, CharSequence)} does, without compiling {@code regex} again.
+   *
+   * @param input the sequence to match
+   * @param regex the regular expression to match
+   * @return <tt>true</tt> if {@code input} matches {@code regex}
+   * @throws java.util.regex.PatternSyntaxException if the syntax of {@code regex} is not valid
+   */
+  public boolean matches(@Nonnull final CharSequence input, @Nonnull final String regex) {
+    final Matcher matcher = matcher(regex, input);
+    final boolean matches = matcher.matches();
+    // releases the input, which may be large
+    matcher.reset("");
+    return matches;
+  }
+
+  /**
+   * Returns <tt>true</tt> if a subsequence of {@code input} matches the given regular expression.
+   *
+   * @param input the sequence to search
+   * @param regex the regular expression to find
+   * @return <tt>true</tt> if {@code regex} is found in {@code input}
+   * @throws java.util.regex.PatternSyntaxException if the syntax of {@code regex} is not valid
+   * @see Matcher#find()
+   */
+  public boolean find(@Nonnull final CharSequence input, @Nonnull final String regex) {
+    final Matcher matcher = matcher(regex, input);
+    final boolean found = matcher.find();
+    matcher.reset("");
+    return found;
+  }
+
+  /**
+   * Returns the number of calls which found the compiled pattern in the cache.
+   *
+   * @return the number of hits
+   */
+  public long hitCount() {
+    return patterns.stats().hitCount();
+  }
+
+  /**
+   * Returns the number of calls which compiled the pattern.
+   *
+   * @return the number of misses
+   */
+  public long missCount() {
+    return patterns.stats().missCount();
+  }
+
+  /**
+   * Returns the ratio of the calls which found the compiled pattern in the cache.
+   *
+   * @return the hit rate of the cache, between {@code 0.0} and {@code 1.0}
+   */
+  public double hitRate() {
+    return patterns.stats().hitRate();
+  }
+
+  /**
+   * Returns the approximate number of compiled patterns in the cache.
+   *
+   * @return the number of compiled patterns in the cache
+   */
+  public long size() {
+    return patterns.size();
+  }
+}
@@ -0,0 +1,396 @@
+package com.github.mforoni.jbasic;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * An immutable sequence of characters for building very large texts incrementally, represented as
+ * a <a href="https://en.wikipedia.org/wiki/Rope_(data_structure)">rope</a>: a balanced binary tree
+ * whose leaves are slices of strings.
+ * <p>
+ * Appending, inserting and taking a subsequence share the unchanged subtrees and cost
+ * {@code O(log n)} instead of copying the characters, so a text assembled piece by piece is built
+ * in linear time. The tree is kept balanced as an AVL tree by joining subtrees of different
+ * heights with rotations, and short adjacent leaves are merged to limit the number of nodes. A rope
+ * can be written to a {@link Writer} or a {@link WritableByteChannel} leaf by leaf, without ever
+ * creating the whole string.
+ *
+ * @author Foroni Marco
+ * @see JStrings#concat(java.util.List)
+ */
+@Beta
+@Immutable
+public final class Rope implements CharSequence {
+  private static final int MAX_MERGED_LEAF = 64;
+  private static final int BUFFER_SIZE = 8192;
+  private static final Rope EMPTY = new Rope(new Leaf("", 0, 0));
+
+  private final Node root;
+
+  private Rope(final Node root) {
+    this.root = root;
+  }
+
+  /**
+   * Returns the empty {@code Rope}.
+   *
+   * @return the empty {@code Rope}
+   */
+  @Nonnull
+  public static Rope empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Returns a {@code Rope} having the characters of the given sequence.
+   *
+   * @param s the sequence to copy
+   * @return a {@code Rope} having the characters of {@code s}
+   */
+  @Nonnull
+  public static Rope of(@Nonnull final CharSequence s) {
+    return s instanceof Rope ? (Rope) s : new Rope(leaf(s));
+  }
+
+  private static Node leaf(final CharSequence s) {
+    final String string = s.toString();
+    return new Leaf(string, 0, string.length());
+  }
+
+  @Override
+  public int length() {
+    return root.length;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    Preconditions.checkElementIndex(index, root.length);
+    Node node = root;
+    int i = index;
+    while (node instanceof Concat) {
+      final Concat concat = (Concat) node;
+      if (i < concat.left.length) {
+        node = concat.left;
+      } else {
+        i -= concat.left.length;
+        node = concat.right;
+      }
+    }
+    final Leaf leaf = (Leaf) node;
+    return leaf.s.charAt(leaf.offset + i);
+  }
+
+  /**
+   * Returns the {@code Rope} of the characters from {@code start}, inclusive, to {@code end},
+   * exclusive, sharing the nodes of this rope.
+   *
+   * @param start the index of the first character, inclusive
+   * @param end the index of the last character, exclusive
+   * @return the {@code Rope} of the characters in the range
+   * @throws IndexOutOfBoundsException if the range is not valid
+   */
+  @Override
+  public Rope subSequence(final int start, final int end) {
+    Preconditions.checkPositionIndexes(start, end, root.length);
+    if (start == 0 && end == root.length) {
+      return this;
+    }
+    return new Rope(split(split(root, end)[0], start)[1]);
+  }
+
+  /**
+   * Returns a {@code Rope} made of the characters of this rope followed by the characters of
+   * {@code s}.
+   *
+   * @param s the sequence to append
+   * @return a {@code Rope} made of this rope followed by {@code s}
+   */
+  @Nonnull
+  public Rope append(@Nonnull final CharSequence s) {
+    return new Rope(join(root, node(s)));
+  }
+
+  /**
+   * Returns a {@code Rope} made of the characters of this rope with the characters of {@code s}
+   * inserted at the given index.
+   *
+   * @param index the index where to insert {@code s}
+   * @param s the sequence to insert
+   * @return a {@code Rope} having {@code s} inserted at {@code index}
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  @Nonnull
+  public Rope insert(final int index, @Nonnull final CharSequence s) {
+    Preconditions.checkPositionIndex(index, root.length);
+    final Node[] halves = split(root, index);
+    return new Rope(join(join(halves[0], node(s)), halves[1]));
+  }
+
+  /**
+   * Writes the characters of this rope to the given {@code Writer}, leaf by leaf.
+   *
+   * @param writer the writer to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public void writeTo(@Nonnull final Writer writer) throws IOException {
+    final Deque<Node> stack = new ArrayDeque<>();
+    for (Leaf leaf = first(root, stack); leaf != null; leaf = next(stack)) {
+      writer.write(leaf.s, leaf.offset, leaf.length);
+    }
+  }
+
+  /**
+   * Writes the characters of this rope, encoded with the given {@code Charset}, to the given
+   * channel, through a buffer of fixed size. The malformed and unmappable characters are replaced.
+   *
+   * @param channel the channel to write to
+   * @param charset the charset to encode the characters
+   * @throws IOException if an I/O error occurs
+   */
+  public void writeTo(@Nonnull final WritableByteChannel channel, @Nonnull final Charset charset)
+      throws IOException {
+    final CharsetEncoder encoder = charset.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    final ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE);
+    // a high surrogate ending a leaf, waiting for the first character of the next leaf
+    final CharBuffer pending = CharBuffer.allocate(2);
+    final Deque<Node> stack = new ArrayDeque<>();
+    for (Leaf leaf = first(root, stack); leaf != null; leaf = next(stack)) {
+      final CharBuffer in = CharBuffer.wrap(leaf.s, leaf.offset, leaf.offset + leaf.length);
+      while (pending.position() > 0 && in.hasRemaining()) {
+        pending.put(in.get()).flip();
+        encode(encoder, pending, out, channel, false);
+        pending.compact();
+      }
+      encode(encoder, in, out, channel, false);
+      if (in.hasRemaining()) {
+        pending.put(in);
+      }
+    }
+    pending.flip();
+    encode(encoder, pending, out, channel, true);
+    while (encoder.flush(out).isOverflow()) {
+      drain(out, channel);
+    }
+    drain(out, channel);
+  }
+
+  private static void encode(final CharsetEncoder encoder, final CharBuffer in,
+      final ByteBuffer out, final WritableByteChannel channel, final boolean endOfInput)
+      throws IOException {
+    CoderResult result;
+    while ((result = encoder.encode(in, out, endOfInput)).isOverflow()) {
+      drain(out, channel);
+    }
+    if (result.isError()) {
+      result.throwException();
+    }
+  }
+
+  private static void drain(final ByteBuffer out, final WritableByteChannel channel)
+      throws IOException {
+    out.flip();
+    while (out.hasRemaining()) {
+      channel.write(out);
+    }
+    out.clear();
+  }
+
+  @Override
+  public String toString() {
+    final char[] chars = new char[root.length];
+    int position = 0;
+    final Deque<Node> stack = new ArrayDeque<>();
+    for (Leaf leaf = first(root, stack); leaf != null; leaf = next(stack)) {
+      leaf.s.getChars(leaf.offset, leaf.offset + leaf.length, chars, position);
+      position += leaf.length;
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Returns the height of the tree, a leaf having height 0.
+   */
+  int height() {
+    return root.height;
+  }
+
+  /**
+   * Returns the leftmost leaf of {@code node}, pushing on the stack the right subtrees to visit.
+   */
+  private static Leaf first(final Node node, final Deque<Node> stack) {
+    Node current = node;
+    while (current instanceof Concat) {
+      stack.push(((Concat) current).right);
+      current = ((Concat) current).left;
+    }
+    return (Leaf) current;
+  }
+
+  private static Leaf next(final Deque<Node> stack) {
+    return stack.isEmpty() ? null : first(stack.pop(), stack);
+  }
+
+  private static Node node(final CharSequence s) {
+    return s instanceof Rope ? ((Rope) s).root : leaf(s);
+  }
+
+  /**
+   * Returns the nodes of the characters before and after the given index.
+   */
+  private static Node[] split(final Node node, final int index) {
+    if (node instanceof Leaf) {
+      final Leaf leaf = (Leaf) node;
+      return new Node[] {new Leaf(leaf.s, leaf.offset, index),
+          new Leaf(leaf.s, leaf.offset + index, leaf.length - index)};
+    }
+    final Concat concat = (Concat) node;
+    if (index < concat.left.length) {
+      final Node[] halves = split(concat.left, index);
+      halves[1] = join(halves[1], concat.right);
+      return halves;
+    }
+    if (index > concat.left.length) {
+      final Node[] halves = split(concat.right, index - concat.left.length);
+      halves[0] = join(concat.left, halves[0]);
+      return halves;
+    }
+    return new Node[] {concat.left, concat.right};
+  }
+
+  /**
+   * Returns the balanced concatenation of the given nodes.
+   */
+  private static Node join(final Node left, final Node right) {
+    if (left.length == 0) {
+      return right;
+    }
+    if (right.length == 0) {
+      return left;
+    }
+    if (left.height > right.height + 1) {
+      return joinRight((Concat) left, right);
+    }
+    if (right.height > left.height + 1) {
+      return joinLeft(left, (Concat) right);
+    }
+    return concat(left, right);
+  }
+
+  private static Node joinRight(final Concat left, final Node right) {
+    if (left.right.height <= right.height + 1) {
+      final Node joined = concat(left.right, right);
+      if (joined.height <= left.left.height + 1) {
+        return concat(left.left, joined);
+      }
+      return rotateLeft(concat(left.left, rotateRight((Concat) joined)));
+    }
+    final Node joined = joinRight((Concat) left.right, right);
+    final Node node = concat(left.left, joined);
+    return joined.height <= left.left.height + 1 ? node : rotateLeft(node);
+  }
+
+  private static Node joinLeft(final Node left, final Concat right) {
+    if (right.left.height <= left.height + 1) {
+      final Node joined = concat(left, right.left);
+      if (joined.height <= right.right.height + 1) {
+        return concat(joined, right.right);
+      }
+      return rotateRight(concat(rotateLeft((Concat) joined), right.right));
+    }
+    final Node joined = joinLeft(left, (Concat) right.left);
+    final Node node = concat(joined, right.right);
+    return joined.height <= right.right.height + 1 ? node : rotateRight(node);
+  }
+
+  private static Node rotateLeft(final Node node) {
+    final Concat concat = (Concat) node;
+    if (!(concat.right instanceof Concat)) {
+      return node;
+    }
+    final Concat right = (Concat) concat.right;
+    return concat(concat(concat.left, right.left), right.right);
+  }
+
+  private static Node rotateRight(final Node node) {
+    final Concat concat = (Concat) node;
+    if (!(concat.left instanceof Concat)) {
+      return node;
+    }
+    final Concat left = (Concat) concat.left;
+    return concat(left.left, concat(left.right, concat.right));
+  }
+
+  /**
+   * Returns the concatenation of the given nodes, merging them if they are short leaves.
+   */
+  private static Node concat(final Node left, final Node right) {
+    if (left instanceof Leaf && right instanceof Leaf
+        && left.length + right.length <= MAX_MERGED_LEAF) {
+      final Leaf l = (Leaf) left;
+      final Leaf r = (Leaf) right;
+      final char[] chars = new char[l.length + r.length];
+      l.s.getChars(l.offset, l.offset + l.length, chars, 0);
+      r.s.getChars(r.offset, r.offset + r.length, chars, l.length);
+      return new Leaf(new String(chars), 0, chars.length);
+    }
+    return new Concat(left, right);
+  }
+
+  private abstract static class Node {
+    final int length;
+    final int height;
+
+    Node(final int length, final int height) {
+      this.length = length;
+      this.height = height;
+    }
+  }
+
+  /**
+   * The slice {@code [offset, offset + length)} of a string.
+   */
+  private static final class Leaf extends Node {
+    private final String s;
+    private final int offset;
+
+    private Leaf(final String s, final int offset, final int length) {
+      super(length, 0);
+      this.s = s;
+      this.offset = offset;
+    }
+  }
+
+  private static final class Concat extends Node {
+    private final Node left;
+    private final Node right;
+
+    private Concat(final Node left, final Node right) {
+      super(checkedLength(left, right), Math.max(left.height, right.height) + 1);
+      this.left = left;
+      this.right = right;
+    }
+
+    private static int checkedLength(final Node left, final Node right) {
+      final int length = left.length + right.length;
+      if (length < 0) {
+        throw new OutOfMemoryError("Rope length overflow");
+      }
+      return length;
+    }
+  }
+}
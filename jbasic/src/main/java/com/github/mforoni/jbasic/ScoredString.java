@@ -0,0 +1,81 @@
+package com.github.mforoni.jbasic;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * A string together with its distance from a search key. Instances are ordered by increasing
+ * distance and then by the natural ordering of the strings.
+ *
+ * @author Foroni Marco
+ * @see JStrings#topSimilars(String, java.util.Collection, int)
+ */
+@Beta
+@Immutable
+public final class ScoredString implements Comparable<ScoredString> {
+  private final String string;
+  private final double distance;
+
+  /**
+   * Creates a new {@code ScoredString} of the given string and distance.
+   *
+   * @param string the string
+   * @param distance the distance of {@code string} from the search key
+   * @throws NullPointerException if {@code string} is <tt>null</tt>
+   */
+  public ScoredString(@Nonnull final String string, final double distance) {
+    this.string = Preconditions.checkNotNull(string);
+    this.distance = distance;
+  }
+
+  /**
+   * Returns the string.
+   *
+   * @return the string
+   */
+  @Nonnull
+  public String getString() {
+    return string;
+  }
+
+  /**
+   * Returns the distance of the string from the search key.
+   *
+   * @return the distance of the string from the search key
+   */
+  public double getDistance() {
+    return distance;
+  }
+
+  @Override
+  public int compareTo(@Nonnull final ScoredString other) {
+    final int compare = Double.compare(distance, other.distance);
+    return compare != 0 ? compare : string.compareTo(other.string);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ScoredString)) {
+      return false;
+    }
+    final ScoredString other = (ScoredString) obj;
+    return string.equals(other.string)
+        && Double.doubleToLongBits(distance) == Double.doubleToLongBits(other.distance);
+  }
+
+  @Override
+  public int hashCode() {
+    final long bits = Double.doubleToLongBits(distance);
+    return 31 * string.hashCode() + (int) (bits ^ (bits >>> 32));
+  }
+
+  @Override
+  public String toString() {
+    return string + "=" + distance;
+  }
+}
@@ -0,0 +1,225 @@
+package com.github.mforoni.jbasic;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+import info.debatty.java.stringsimilarity.Levenshtein;
+import info.debatty.java.stringsimilarity.interfaces.MetricStringDistance;
+
+/**
+ * An immutable index of strings, built once from a {@link Collection}, able to answer similarity
+ * queries without computing the distance between the key and every string of the collection.
+ * <p>
+ * The index is a <a href="https://en.wikipedia.org/wiki/BK-tree">BK-tree</a>: each node stores the
+ * distance of its children from itself, so the triangle inequality of the given
+ * {@link MetricStringDistance} allows to skip whole subtrees during a search. The results are the
+ * same returned by {@link JStrings#similars(String, Collection, MetricStringDistance)} on the
+ * original collection.
+ * <p>
+ * Instances are safe for use by multiple concurrent threads, provided that the
+ * {@code MetricStringDistance} is.
+ *
+ * @author Foroni Marco
+ * @see JStrings#similars(String, Collection, MetricStringDistance)
+ * @see MetricStringDistance
+ */
+@Beta
+@Immutable
+public final class SimilarityIndex {
+  @Nullable
+  private final Node root;
+  private final MetricStringDistance metricStringDistance;
+  private final int size;
+
+  private SimilarityIndex(@Nullable final Node root,
+      @Nonnull final MetricStringDistance metricStringDistance, final int size) {
+    this.root = root;
+    this.metricStringDistance = metricStringDistance;
+    this.size = size;
+  }
+
+  /**
+   * Returns a new {@code SimilarityIndex} containing the strings of the specified
+   * {@link Collection} and using the {@link Levenshtein} distance.
+   *
+   * @param collection the {@code Collection} of strings to index
+   * @return a new {@code SimilarityIndex} containing the strings of the specified collection
+   * @see Levenshtein
+   */
+  @Nonnull
+  public static SimilarityIndex create(@Nonnull final Collection<String> collection) {
+    return create(collection, new Levenshtein());
+  }
+
+  /**
+   * Returns a new {@code SimilarityIndex} containing the strings of the specified
+   * {@link Collection} and using the given {@link MetricStringDistance}.
+   *
+   * @param collection the {@code Collection} of strings to index
+   * @param metricStringDistance the distance used to build and search the index
+   * @return a new {@code SimilarityIndex} containing the strings of the specified collection
+   */
+  @Nonnull
+  public static SimilarityIndex create(@Nonnull final Collection<String> collection,
+      @Nonnull final MetricStringDistance metricStringDistance) {
+    Preconditions.checkNotNull(collection);
+    Preconditions.checkNotNull(metricStringDistance);
+    Node root = null;
+    int size = 0;
+    for (final String s : collection) {
+      Preconditions.checkNotNull(s, "The collection cannot contain null elements");
+      if (root == null) {
+        root = new Node(s);
+        size++;
+      } else if (insert(root, s, metricStringDistance)) {
+        size++;
+      }
+    }
+    return new SimilarityIndex(root, metricStringDistance, size);
+  }
+
+  private static boolean insert(final Node root, final String s,
+      final MetricStringDistance metricStringDistance) {
+    Node node = root;
+    while (true) {
+      if (node.value.equals(s)) {
+        return false;
+      }
+      final double distance = metricStringDistance.distance(node.value, s);
+      final Node child = node.child(distance);
+      if (child == null) {
+        node.addChild(distance, new Node(s));
+        return true;
+      }
+      node = child;
+    }
+  }
+
+  /**
+   * Returns the number of distinct strings contained in this index.
+   *
+   * @return the number of distinct strings contained in this index
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Finds the strings in this index having minimum distance from the given {@code key}.
+   *
+   * @param key the string to search
+   * @return a {@code Set} of strings having minimum distance from the given {@code key}
+   * @see JStrings#similars(String, Collection, MetricStringDistance)
+   */
+  @Nonnull
+  public Set<String> similars(@Nonnull final String key) {
+    Preconditions.checkNotNull(key);
+    final Set<String> similars = new HashSet<>();
+    if (root == null) {
+      return similars;
+    }
+    double min = Double.MAX_VALUE;
+    final Deque<Node> stack = new ArrayDeque<>();
+    stack.push(root);
+    while (!stack.isEmpty()) {
+      final Node node = stack.pop();
+      final double distance = metricStringDistance.distance(node.value, key);
+      if (distance < min) {
+        min = distance;
+        similars.clear();
+        similars.add(node.value);
+      } else if (distance == min) {
+        similars.add(node.value);
+      }
+      for (int i = 0; i < node.count; i++) {
+        // by triangle inequality the subtree cannot contain strings nearer than this bound
+        if (Math.abs(node.distances[i] - distance) <= min) {
+          stack.push(node.children[i]);
+        }
+      }
+    }
+    return similars;
+  }
+
+  /**
+   * Finds the strings in this index having distance from the given {@code key} not greater than
+   * {@code maxDistance}.
+   *
+   * @param key the string to search
+   * @param maxDistance the maximum distance allowed, inclusive
+   * @return a {@code Set} of strings having distance from the given {@code key} not greater than
+   *         {@code maxDistance}
+   * @throws IllegalArgumentException if {@code maxDistance} is negative
+   */
+  @Nonnull
+  public Set<String> within(@Nonnull final String key, final double maxDistance) {
+    Preconditions.checkNotNull(key);
+    Preconditions.checkArgument(maxDistance >= 0, "maxDistance cannot be negative");
+    final Set<String> within = new HashSet<>();
+    if (root == null) {
+      return within;
+    }
+    final Deque<Node> stack = new ArrayDeque<>();
+    stack.push(root);
+    while (!stack.isEmpty()) {
+      final Node node = stack.pop();
+      final double distance = metricStringDistance.distance(node.value, key);
+      if (distance <= maxDistance) {
+        within.add(node.value);
+      }
+      for (int i = 0; i < node.count; i++) {
+        if (Math.abs(node.distances[i] - distance) <= maxDistance) {
+          stack.push(node.children[i]);
+        }
+      }
+    }
+    return within;
+  }
+
+  /**
+   * A node of the BK-tree. Children are kept in small parallel arrays, since their number is
+   * bounded by the distinct distances from the node value.
+   */
+  private static final class Node {
+    private final String value;
+    private double[] distances = new double[0];
+    private Node[] children = new Node[0];
+    private int count;
+
+    private Node(final String value) {
+      this.value = value;
+    }
+
+    @Nullable
+    private Node child(final double distance) {
+      for (int i = 0; i < count; i++) {
+        if (distances[i] == distance) {
+          return children[i];
+        }
+      }
+      return null;
+    }
+
+    private void addChild(final double distance, final Node child) {
+      if (count == distances.length) {
+        final int capacity = Math.max(4, count * 2);
+        final double[] newDistances = new double[capacity];
+        final Node[] newChildren = new Node[capacity];
+        System.arraycopy(distances, 0, newDistances, 0, count);
+        System.arraycopy(children, 0, newChildren, 0, count);
+        distances = newDistances;
+        children = newChildren;
+      }
+      distances[count] = distance;
+      children[count] = child;
+      count++;
+    }
+  }
+}
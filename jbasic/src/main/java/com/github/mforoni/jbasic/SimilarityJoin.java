@@ -0,0 +1,323 @@
+package com.github.mforoni.jbasic;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import javax.annotation.Nonnull;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+import info.debatty.java.stringsimilarity.Levenshtein;
+
+/**
+ * Provides {@code static} utility methods for finding all the pairs of strings, taken from two
+ * collections, within a given {@link Levenshtein} distance.
+ * <p>
+ * Instead of comparing every pair, each string is reduced to its bigrams ordered from the rarest
+ * to the most frequent: two strings within distance {@code k} must share one of the first
+ * {@code 2 * k + 1} of them, unless both strings are too short to have that many. Candidates
+ * sharing a prefix bigram are then filtered by length and verified with a
+ * {@link BoundedLevenshtein}. The strings of the first collection are split among the tasks of a
+ * {@link ForkJoinPool}.
+ *
+ * @author Foroni Marco
+ * @see BoundedLevenshtein
+ */
+@Beta
+public final class SimilarityJoin {
+  private static final int Q = 2;
+
+  // Suppresses default constructor, ensuring non-instantiability.
+  private SimilarityJoin() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns all the pairs of distinct strings, the first from {@code left} and the second from
+   * {@code right}, having {@link Levenshtein} distance not greater than {@code k}.
+   *
+   * @param left the first {@code Collection} of strings
+   * @param right the second {@code Collection} of strings
+   * @param k the maximum distance, inclusive
+   * @return a {@code List} of pairs, each having as key a string of {@code left} and as value a
+   *         string of {@code right}
+   * @throws IllegalArgumentException if {@code k} is negative
+   * @see #join(Collection, Collection, int, ForkJoinPool)
+   */
+  @Nonnull
+  public static List<Map.Entry<String, String>> join(@Nonnull final Collection<String> left,
+      @Nonnull final Collection<String> right, final int k) {
+    return join(left, right, k, ParallelSimilars.pool());
+  }
+
+  /**
+   * Returns all the pairs of distinct strings, the first from {@code left} and the second from
+   * {@code right}, having {@link Levenshtein} distance not greater than {@code k}, computed by the
+   * given {@link ForkJoinPool}.
+   *
+   * @param left the first {@code Collection} of strings
+   * @param right the second {@code Collection} of strings
+   * @param k the maximum distance, inclusive
+   * @param pool the {@code ForkJoinPool} executing the join
+   * @return a {@code List} of pairs, each having as key a string of {@code left} and as value a
+   *         string of {@code right}
+   * @throws IllegalArgumentException if {@code k} is negative
+   */
+  @Nonnull
+  public static List<Map.Entry<String, String>> join(@Nonnull final Collection<String> left,
+      @Nonnull final Collection<String> right, final int k, @Nonnull final ForkJoinPool pool) {
+    Preconditions.checkArgument(k >= 0, "k cannot be negative");
+    Preconditions.checkNotNull(pool);
+    final String[] lefts = new LinkedHashSet<>(left).toArray(new String[0]);
+    final String[] rights = new LinkedHashSet<>(right).toArray(new String[0]);
+    final Join join = new Join(lefts, rights, k);
+    return pool.invoke(new JoinTask(join, 0, lefts.length));
+  }
+
+  /**
+   * The state shared by the tasks of a join: the prefixes of both sides and the inverted index of
+   * the right prefixes.
+   */
+  private static final class Join {
+    private final String[] lefts;
+    private final String[] rights;
+    private final int k;
+    private final int prefixLength;
+    private final int[][] leftPrefixes;
+    // (rank << 32 | right index), sorted
+    private final long[] index;
+    // the indexes of the short right strings, sorted by length
+    private final int[] shortRights;
+    // the short right strings of length n are shortRights[shortOffsets[n], shortOffsets[n + 1])
+    private final int[] shortOffsets;
+    private final BoundedLevenshtein boundedLevenshtein = new BoundedLevenshtein();
+    private final ThreadLocal<int[]> stamps = new ThreadLocal<int[]>() {
+      @Override
+      protected int[] initialValue() {
+        return new int[rights.length];
+      }
+    };
+
+    private Join(final String[] lefts, final String[] rights, final int k) {
+      this.lefts = lefts;
+      this.rights = rights;
+      this.k = k;
+      prefixLength = Q * k + 1;
+      final int[] all = allGrams(lefts, rights);
+      final int[] rankOf = ranks(all, distinct(all.clone()).length);
+      final int[] grams = distinct(all);
+      leftPrefixes = new int[lefts.length][];
+      for (int i = 0; i < lefts.length; i++) {
+        leftPrefixes[i] = prefix(lefts[i], grams, rankOf);
+      }
+      int size = 0;
+      final int[][] rightPrefixes = new int[rights.length][];
+      for (int i = 0; i < rights.length; i++) {
+        rightPrefixes[i] = prefix(rights[i], grams, rankOf);
+        size += rightPrefixes[i].length;
+      }
+      index = new long[size];
+      int p = 0;
+      for (int i = 0; i < rights.length; i++) {
+        for (final int rank : rightPrefixes[i]) {
+          index[p++] = (long) rank << 32 | i;
+        }
+      }
+      Arrays.sort(index);
+      // buckets the short right strings by length, a counting sort
+      final int maxShortLength = prefixLength + Q - 2;
+      shortOffsets = new int[maxShortLength + 2];
+      for (final String right : rights) {
+        if (isShort(right)) {
+          shortOffsets[right.length() + 1]++;
+        }
+      }
+      for (int n = 0; n <= maxShortLength; n++) {
+        shortOffsets[n + 1] += shortOffsets[n];
+      }
+      shortRights = new int[shortOffsets[maxShortLength + 1]];
+      final int[] next = Arrays.copyOf(shortOffsets, maxShortLength + 1);
+      for (int i = 0; i < rights.length; i++) {
+        if (isShort(rights[i])) {
+          shortRights[next[rights[i].length()]++] = i;
+        }
+      }
+    }
+
+    /**
+     * Returns all the bigrams of both sides, sorted.
+     */
+    private static int[] allGrams(final String[] lefts, final String[] rights) {
+      int total = 0;
+      for (final String s : lefts) {
+        total += Math.max(0, s.length() - Q + 1);
+      }
+      for (final String s : rights) {
+        total += Math.max(0, s.length() - Q + 1);
+      }
+      final int[] all = new int[total];
+      grams(rights, all, grams(lefts, all, 0));
+      Arrays.sort(all);
+      return all;
+    }
+
+    /**
+     * Returns the rank by increasing frequency of each distinct bigram of the sorted {@code all}.
+     */
+    private static int[] ranks(final int[] all, final int distinct) {
+      final long[] frequencies = new long[distinct];
+      int d = -1;
+      for (int i = 0; i < all.length; i++) {
+        if (i == 0 || all[i] != all[i - 1]) {
+          d++;
+          frequencies[d] = d;
+        }
+        frequencies[d] += 1L << 32;
+      }
+      // sorting (frequency << 32 | gram index) gives the rank of each gram
+      Arrays.sort(frequencies);
+      final int[] ranks = new int[distinct];
+      for (int rank = 0; rank < distinct; rank++) {
+        ranks[(int) frequencies[rank]] = rank;
+      }
+      return ranks;
+    }
+
+    private static int[] distinct(final int[] sorted) {
+      int distinct = 0;
+      for (int i = 0; i < sorted.length; i++) {
+        if (i == 0 || sorted[i] != sorted[i - 1]) {
+          sorted[distinct++] = sorted[i];
+        }
+      }
+      return Arrays.copyOf(sorted, distinct);
+    }
+
+    private static int grams(final String[] strings, final int[] grams, final int from) {
+      int p = from;
+      for (final String s : strings) {
+        for (int i = 0; i + Q <= s.length(); i++) {
+          grams[p++] = gram(s, i);
+        }
+      }
+      return p;
+    }
+
+    private static int gram(final String s, final int i) {
+      return s.charAt(i) << 16 | s.charAt(i + 1);
+    }
+
+    /**
+     * Returns the distinct ranks of the rarest {@code prefixLength} bigrams of {@code s}.
+     */
+    private int[] prefix(final String s, final int[] grams, final int[] rankOf) {
+      final int count = Math.max(0, s.length() - Q + 1);
+      final int[] ranks = new int[count];
+      for (int i = 0; i < count; i++) {
+        ranks[i] = rankOf[Arrays.binarySearch(grams, gram(s, i))];
+      }
+      Arrays.sort(ranks);
+      final int length = Math.min(count, prefixLength);
+      int distinct = 0;
+      for (int i = 0; i < length; i++) {
+        if (i == 0 || ranks[i] != ranks[i - 1]) {
+          ranks[distinct++] = ranks[i];
+        }
+      }
+      return Arrays.copyOf(ranks, distinct);
+    }
+
+    private boolean isShort(final String s) {
+      return s.length() - Q + 1 < prefixLength;
+    }
+
+    private void probe(final int l, final List<Map.Entry<String, String>> pairs) {
+      final String s = lefts[l];
+      final int[] stamps = this.stamps.get();
+      final int stamp = l + 1;
+      for (final int rank : leftPrefixes[l]) {
+        int p = lowerBound((long) rank << 32);
+        while (p < index.length && (int) (index[p] >>> 32) == rank) {
+          final int r = (int) index[p++];
+          if (stamps[r] != stamp) {
+            stamps[r] = stamp;
+            verify(s, rights[r], pairs);
+          }
+        }
+      }
+      // pairs of short strings may share no prefix bigram at all: probes the short right strings
+      // whose length differs by at most k
+      if (isShort(s)) {
+        final int from = shortOffsets[Math.max(0, s.length() - k)];
+        final int to = shortOffsets[Math.min(shortOffsets.length - 1, s.length() + k + 1)];
+        for (int i = from; i < to; i++) {
+          final int r = shortRights[i];
+          if (stamps[r] != stamp) {
+            stamps[r] = stamp;
+            verify(s, rights[r], pairs);
+          }
+        }
+      }
+    }
+
+    private int lowerBound(final long key) {
+      int low = 0;
+      int high = index.length;
+      while (low < high) {
+        final int middle = (low + high) >>> 1;
+        if (index[middle] < key) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+
+    private void verify(final String s, final String t,
+        final List<Map.Entry<String, String>> pairs) {
+      if (Math.abs(s.length() - t.length()) <= k && boundedLevenshtein.distance(s, t, k) != -1) {
+        pairs.add(new AbstractMap.SimpleImmutableEntry<>(s, t));
+      }
+    }
+  }
+
+  private static final class JoinTask extends RecursiveTask<List<Map.Entry<String, String>>> {
+    private static final long serialVersionUID = 1L;
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 9;
+
+    private final Join join;
+    private final int fromIndex;
+    private final int toIndex;
+
+    private JoinTask(final Join join, final int fromIndex, final int toIndex) {
+      this.join = join;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+
+    @Override
+    protected List<Map.Entry<String, String>> compute() {
+      if (toIndex - fromIndex <= SEQUENTIAL_THRESHOLD) {
+        final List<Map.Entry<String, String>> pairs = new ArrayList<>();
+        for (int l = fromIndex; l < toIndex; l++) {
+          join.probe(l, pairs);
+        }
+        return pairs;
+      }
+      final int middle = (fromIndex + toIndex) >>> 1;
+      final JoinTask left = new JoinTask(join, fromIndex, middle);
+      left.fork();
+      final List<Map.Entry<String, String>> rightPairs =
+          new JoinTask(join, middle, toIndex).compute();
+      final List<Map.Entry<String, String>> pairs = left.join();
+      pairs.addAll(rightPairs);
+      return pairs;
+    }
+  }
+}
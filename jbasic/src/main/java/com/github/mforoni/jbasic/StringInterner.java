@@ -0,0 +1,303 @@
+package com.github.mforoni.jbasic;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * An {@link Interner} of strings, deduplicating the many equal instances created when loading
+ * repetitive data (country codes, statuses, dates) without relying on {@link String#intern()}.
+ * <p>
+ * Two modes are available:
+ * <ul>
+ * <li>{@link #weak()}: the canonical instances are weakly referenced, therefore they are garbage
+ * collected as soon as no one else uses them;</li>
+ * <li>{@link #bounded(int)}: at most about {@code maximumSize} canonical instances are strongly
+ * referenced, and the least recently used ones are discarded beyond that size.</li>
+ * </ul>
+ * The strings are split by hash among 16 segments, each guarded by its own lock, so that many
+ * threads can intern concurrently. Each interner records the number of hits, i.e. calls returning
+ * an already interned instance, and misses. Use {@link Interners#asFunction(Interner)} to intern
+ * the elements of a line or token stream lazily, or {@link #internAll(List)} to deduplicate a list
+ * in place.
+ *
+ * @author Foroni Marco
+ * @see com.github.mforoni.jbasic.io.JFiles#readLines(java.nio.file.Path, Interner)
+ */
+@Beta
+@ThreadSafe
+public final class StringInterner implements Interner<String> {
+  private static final int SEGMENT_SHIFT = 28;
+
+  private final Segment[] segments = new Segment[1 << (32 - SEGMENT_SHIFT)];
+
+  private StringInterner(final int maximumSize) {
+    final int segmentSize = (maximumSize + segments.length - 1) / segments.length;
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = maximumSize == 0 ? new WeakSegment() : new BoundedSegment(segmentSize);
+    }
+  }
+
+  /**
+   * Returns a new {@code StringInterner} weakly referencing the interned strings.
+   *
+   * @return a new weak {@code StringInterner}
+   */
+  @Nonnull
+  public static StringInterner weak() {
+    return new StringInterner(0);
+  }
+
+  /**
+   * Returns a new {@code StringInterner} keeping about {@code maximumSize} interned strings,
+   * discarding the least recently used ones.
+   *
+   * @param maximumSize the maximum number of interned strings, approximated to a multiple of the
+   *        number of segments
+   * @return a new bounded {@code StringInterner}
+   * @throws IllegalArgumentException if {@code maximumSize} is not positive
+   */
+  @Nonnull
+  public static StringInterner bounded(final int maximumSize) {
+    Preconditions.checkArgument(maximumSize > 0, "maximumSize must be positive");
+    return new StringInterner(maximumSize);
+  }
+
+  /**
+   * Returns the canonical instance equal to the given string, which is the string itself if no
+   * equal string has been interned yet.
+   *
+   * @param s the string to intern
+   * @return the canonical instance equal to {@code s}
+   */
+  @Override
+  public String intern(@Nonnull final String s) {
+    int hash = s.hashCode();
+    hash ^= (hash >>> 20) ^ (hash >>> 12);
+    hash ^= (hash >>> 7) ^ (hash >>> 4);
+    final Segment segment = segments[hash >>> SEGMENT_SHIFT];
+    synchronized (segment) {
+      return segment.intern(s, hash);
+    }
+  }
+
+  /**
+   * Replaces in place each element of the given list with its canonical instance.
+   *
+   * @param list the list to deduplicate, which must support {@link ListIterator#set(Object)}
+   * @return {@code list}
+   */
+  @Nonnull
+  public <L extends List<String>> L internAll(@Nonnull final L list) {
+    for (final ListIterator<String> iterator = list.listIterator(); iterator.hasNext();) {
+      final String s = iterator.next();
+      if (s != null) {
+        final String canonical = intern(s);
+        if (canonical != s) {
+          iterator.set(canonical);
+        }
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Returns the number of calls to {@link #intern(String)} which found an equal instance.
+   *
+   * @return the number of hits
+   */
+  public long hitCount() {
+    long hits = 0;
+    for (final Segment segment : segments) {
+      synchronized (segment) {
+        hits += segment.hits;
+      }
+    }
+    return hits;
+  }
+
+  /**
+   * Returns the number of calls to {@link #intern(String)} which interned a new instance.
+   *
+   * @return the number of misses
+   */
+  public long missCount() {
+    long misses = 0;
+    for (final Segment segment : segments) {
+      synchronized (segment) {
+        misses += segment.misses;
+      }
+    }
+    return misses;
+  }
+
+  /**
+   * Returns the ratio of calls to {@link #intern(String)} which found an equal instance, or
+   * {@code 1.0} if no string has been interned.
+   *
+   * @return the hit rate, between {@code 0.0} and {@code 1.0}
+   */
+  public double hitRate() {
+    final long hits = hitCount();
+    final long total = hits + missCount();
+    return total == 0 ? 1.0 : (double) hits / total;
+  }
+
+  /**
+   * Returns the number of interned strings. For a weak interner the count can include strings
+   * already garbage collected but not yet purged.
+   *
+   * @return the number of interned strings
+   */
+  public int size() {
+    int size = 0;
+    for (final Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * A portion of the interned strings, always accessed holding its lock.
+   */
+  private abstract static class Segment {
+    long hits;
+    long misses;
+
+    abstract String intern(String s, int hash);
+
+    abstract int size();
+  }
+
+  private static final class WeakSegment extends Segment {
+    private final ReferenceQueue<String> queue = new ReferenceQueue<>();
+    private WeakEntry[] table = new WeakEntry[16];
+    private int size;
+
+    @Override
+    String intern(final String s, final int hash) {
+      expunge();
+      final int index = hash & (table.length - 1);
+      for (WeakEntry e = table[index]; e != null; e = e.next) {
+        if (e.hash == hash) {
+          final String canonical = e.get();
+          if (s.equals(canonical)) {
+            hits++;
+            return canonical;
+          }
+        }
+      }
+      misses++;
+      table[index] = new WeakEntry(s, hash, table[index], queue);
+      if (++size > table.length - (table.length >>> 2)) {
+        resize();
+      }
+      return s;
+    }
+
+    @Override
+    int size() {
+      expunge();
+      return size;
+    }
+
+    private void resize() {
+      final WeakEntry[] resized = new WeakEntry[table.length << 1];
+      for (WeakEntry e : table) {
+        while (e != null) {
+          final WeakEntry next = e.next;
+          final int index = e.hash & (resized.length - 1);
+          e.next = resized[index];
+          resized[index] = e;
+          e = next;
+        }
+      }
+      table = resized;
+    }
+
+    /**
+     * Removes the entries whose string has been garbage collected.
+     */
+    private void expunge() {
+      WeakEntry stale;
+      while ((stale = (WeakEntry) queue.poll()) != null) {
+        final int index = stale.hash & (table.length - 1);
+        WeakEntry previous = null;
+        for (WeakEntry e = table[index]; e != null; previous = e, e = e.next) {
+          if (e == stale) {
+            if (previous == null) {
+              table[index] = e.next;
+            } else {
+              previous.next = e.next;
+            }
+            size--;
+            break;
+          }
+        }
+      }
+    }
+  }
+
+  private static final class WeakEntry extends WeakReference<String> {
+    private final int hash;
+    private WeakEntry next;
+
+    private WeakEntry(final String s, final int hash, final WeakEntry next,
+        final ReferenceQueue<String> queue) {
+      super(s, queue);
+      this.hash = hash;
+      this.next = next;
+    }
+  }
+
+  private static final class BoundedSegment extends Segment {
+    private final LruMap map;
+
+    private BoundedSegment(final int maximumSize) {
+      map = new LruMap(maximumSize);
+    }
+
+    @Override
+    String intern(final String s, final int hash) {
+      final String canonical = map.get(s);
+      if (canonical != null) {
+        hits++;
+        return canonical;
+      }
+      misses++;
+      map.put(s, s);
+      return s;
+    }
+
+    @Override
+    int size() {
+      return map.size();
+    }
+  }
+
+  private static final class LruMap extends LinkedHashMap<String, String> {
+    private static final long serialVersionUID = 1L;
+    private final int maximumSize;
+
+    private LruMap(final int maximumSize) {
+      super(16, 0.75f, true);
+      this.maximumSize = maximumSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+      return size() > maximumSize;
+    }
+  }
+}
@@ -0,0 +1,283 @@
+package com.github.mforoni.jbasic;
+
+import java.io.IOException;
+import java.text.Normalizer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+
+/**
+ * Normalizes character sequences applying a chain of cleanup steps in a single pass, without
+ * regular expressions and without intermediate strings.
+ * <p>
+ * A normalizer is built starting from {@link #create()}, which does nothing, and enabling the
+ * required steps; whatever the order they are enabled, each character of the input is processed
+ * as follows:
+ * <ol>
+ * <li>accents are stripped: the characters up to U+024F having a canonical decomposition are
+ * replaced by their base character, and the combining diacritical marks are removed;</li>
+ * <li>leading and trailing whitespace is trimmed;</li>
+ * <li>each run of whitespace is collapsed into a single space;</li>
+ * <li>each character not in {@code [A-Za-z0-9]}, including the remaining whitespace, is replaced
+ * by a literal replacement string;</li>
+ * <li>the case of the remaining characters is converted.</li>
+ * </ol>
+ * The whitespace characters are the ones matched by the regular expression {@code \s}, i.e.
+ * {@code [ \t\n\x0B\f\r]}. The output is appended to a given {@link StringBuilder} or
+ * {@link Appendable}, which can be reused among many inputs.
+ *
+ * @author Foroni Marco
+ * @see JStrings#removeConsecutiveSpaces(String)
+ * @see JStrings#replaceNotAlphanumeric(String, String)
+ */
+@Beta
+@Immutable
+public final class StringNormalizer {
+  private static final StringNormalizer IDENTITY =
+      new StringNormalizer(false, false, false, null, Case.UNCHANGED);
+  private static final int ACCENTED_LIMIT = 0x250;
+  private static final char[] UNACCENTED = new char[ACCENTED_LIMIT];
+
+  static {
+    for (char c = 0; c < ACCENTED_LIMIT; c++) {
+      final String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+      boolean marks = decomposed.length() > 1;
+      for (int i = 1; i < decomposed.length(); i++) {
+        marks &= isCombiningMark(decomposed.charAt(i));
+      }
+      UNACCENTED[c] = marks ? decomposed.charAt(0) : c;
+    }
+  }
+
+  private enum Case {
+    UNCHANGED, LOWER, UPPER
+  }
+
+  private final boolean stripAccents;
+  private final boolean trim;
+  private final boolean collapse;
+  @Nullable
+  private final String replacement;
+  private final Case targetCase;
+
+  private StringNormalizer(final boolean stripAccents, final boolean trim, final boolean collapse,
+      @Nullable final String replacement, final Case targetCase) {
+    this.stripAccents = stripAccents;
+    this.trim = trim;
+    this.collapse = collapse;
+    this.replacement = replacement;
+    this.targetCase = targetCase;
+  }
+
+  /**
+   * Returns a {@code StringNormalizer} leaving its input unchanged, to be configured enabling the
+   * required steps.
+   *
+   * @return a {@code StringNormalizer} leaving its input unchanged
+   */
+  @Nonnull
+  public static StringNormalizer create() {
+    return IDENTITY;
+  }
+
+  /**
+   * Returns a normalizer which behaves as this one, but also strips the accents.
+   *
+   * @return a normalizer stripping the accents
+   */
+  @Nonnull
+  public StringNormalizer stripAccents() {
+    return new StringNormalizer(true, trim, collapse, replacement, targetCase);
+  }
+
+  /**
+   * Returns a normalizer which behaves as this one, but also removes the leading and trailing
+   * whitespace.
+   *
+   * @return a normalizer trimming the whitespace
+   */
+  @Nonnull
+  public StringNormalizer trimWhitespace() {
+    return new StringNormalizer(stripAccents, true, collapse, replacement, targetCase);
+  }
+
+  /**
+   * Returns a normalizer which behaves as this one, but also collapses each run of whitespace into
+   * a single space.
+   *
+   * @return a normalizer collapsing the whitespace
+   */
+  @Nonnull
+  public StringNormalizer collapseWhitespace() {
+    return new StringNormalizer(stripAccents, trim, true, replacement, targetCase);
+  }
+
+  /**
+   * Returns a normalizer which behaves as this one, but also replaces each character not in
+   * {@code [A-Za-z0-9]} with the given string, taken literally.
+   *
+   * @param replacement the replacement string
+   * @return a normalizer replacing the characters not alphanumeric
+   */
+  @Nonnull
+  public StringNormalizer replaceNotAlphanumeric(@Nonnull final String replacement) {
+    Preconditions.checkNotNull(replacement);
+    return new StringNormalizer(stripAccents, trim, collapse, replacement, targetCase);
+  }
+
+  /**
+   * Returns a normalizer which behaves as this one, but also converts the characters to lower
+   * case, one by one and regardless of the locale.
+   *
+   * @return a normalizer converting to lower case
+   * @see Character#toLowerCase(char)
+   */
+  @Nonnull
+  public StringNormalizer toLowerCase() {
+    return new StringNormalizer(stripAccents, trim, collapse, replacement, Case.LOWER);
+  }
+
+  /**
+   * Returns a normalizer which behaves as this one, but also converts the characters to upper
+   * case, one by one and regardless of the locale.
+   *
+   * @return a normalizer converting to upper case
+   * @see Character#toUpperCase(char)
+   */
+  @Nonnull
+  public StringNormalizer toUpperCase() {
+    return new StringNormalizer(stripAccents, trim, collapse, replacement, Case.UPPER);
+  }
+
+  /**
+   * Returns the normalized form of the given sequence.
+   *
+   * @param s the sequence to normalize
+   * @return the normalized form of {@code s}
+   */
+  @Nonnull
+  public String normalize(@Nonnull final CharSequence s) {
+    return appendTo(new StringBuilder(s.length()), s).toString();
+  }
+
+  /**
+   * Appends the normalized form of the given sequence to {@code builder}.
+   *
+   * @param builder the builder to append to
+   * @param s the sequence to normalize
+   * @return {@code builder}
+   */
+  @Nonnull
+  public StringBuilder appendTo(@Nonnull final StringBuilder builder,
+      @Nonnull final CharSequence s) {
+    try {
+      appendTo((Appendable) builder, s);
+    } catch (final IOException impossible) {
+      throw new AssertionError(impossible);
+    }
+    return builder;
+  }
+
+  /**
+   * Appends the normalized form of the given sequence to {@code appendable}.
+   *
+   * @param appendable the object to append to
+   * @param s the sequence to normalize
+   * @return {@code appendable}
+   * @throws IOException if an I/O error occurs
+   */
+  @Nonnull
+  public <A extends Appendable> A appendTo(@Nonnull final A appendable,
+      @Nonnull final CharSequence s) throws IOException {
+    final boolean spaces = trim || collapse;
+    // the start of the run of whitespace not yet written, -1 if none
+    int run = -1;
+    boolean written = false;
+    for (int i = 0; i < s.length(); i++) {
+      final char c = s.charAt(i);
+      if (spaces && isWhitespace(c)) {
+        if (run == -1) {
+          run = i;
+        }
+        continue;
+      }
+      if (stripAccents && isCombiningMark(c)) {
+        continue;
+      }
+      if (run != -1) {
+        if (written || !trim) {
+          appendWhitespace(appendable, s, run, i);
+        }
+        run = -1;
+      }
+      if (Character.isHighSurrogate(c) && i + 1 < s.length()
+          && Character.isLowSurrogate(s.charAt(i + 1))) {
+        // a supplementary character is never alphanumeric nor accented
+        appendSupplementary(appendable, Character.toCodePoint(c, s.charAt(++i)));
+      } else {
+        append(appendable, stripAccents && c < ACCENTED_LIMIT ? UNACCENTED[c] : c);
+      }
+      written = true;
+    }
+    if (run != -1 && !trim) {
+      appendWhitespace(appendable, s, run, s.length());
+    }
+    return appendable;
+  }
+
+  private void appendWhitespace(final Appendable appendable, final CharSequence s, final int from,
+      final int to) throws IOException {
+    if (collapse) {
+      append(appendable, ' ');
+    } else {
+      for (int i = from; i < to; i++) {
+        // skips the combining marks removed within the run
+        if (isWhitespace(s.charAt(i))) {
+          append(appendable, s.charAt(i));
+        }
+      }
+    }
+  }
+
+  private void append(final Appendable appendable, final char c) throws IOException {
+    if (replacement != null && !isAlphanumeric(c)) {
+      appendable.append(replacement);
+    } else if (targetCase == Case.LOWER) {
+      appendable.append(Character.toLowerCase(c));
+    } else if (targetCase == Case.UPPER) {
+      appendable.append(Character.toUpperCase(c));
+    } else {
+      appendable.append(c);
+    }
+  }
+
+  private void appendSupplementary(final Appendable appendable, final int codePoint)
+      throws IOException {
+    if (replacement != null) {
+      appendable.append(replacement);
+      return;
+    }
+    final int converted = targetCase == Case.LOWER ? Character.toLowerCase(codePoint)
+        : targetCase == Case.UPPER ? Character.toUpperCase(codePoint) : codePoint;
+    if (Character.isBmpCodePoint(converted)) {
+      appendable.append((char) converted);
+    } else {
+      appendable.append(Character.highSurrogate(converted))
+          .append(Character.lowSurrogate(converted));
+    }
+  }
+
+  private static boolean isWhitespace(final char c) {
+    return c == ' ' || c >= '\t' && c <= '\r';
+  }
+
+  private static boolean isAlphanumeric(final char c) {
+    return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
+  }
+
+  private static boolean isCombiningMark(final char c) {
+    return c >= '\u0300' && c <= '\u036F';
+  }
+}
@@ -0,0 +1,114 @@
+package com.github.mforoni.jbasic;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checks the characters of UTF-8 encoded bytes without decoding them while they are ASCII.
+ * <p>
+ * The bytes are read 8 at a time as a {@code long}, and all the 8 bytes are checked together with
+ * a few arithmetic operations (SWAR): since each ASCII byte is lower than {@code 0x80}, adding a
+ * constant lower than {@code 0x80} to each byte of the word never carries into the next byte, and
+ * the high bit of each byte tells whether the byte reached the constant's complement. As soon as a
+ * byte having the high bit set is found, the remaining bytes are decoded and the check is delegated
+ * to {@link Character}, so the result is the same of the {@code String} methods of
+ * {@link JStrings}; malformed input never matches.
+ *
+ * @author Foroni Marco
+ * @see JStrings#isDigits(ByteBuffer)
+ */
+final class Utf8Validator {
+  static final int DIGITS = 0;
+  static final int LETTERS = 1;
+  static final int LETTERS_OR_DIGITS = 2;
+
+  private static final long HIGH_BITS = 0x8080808080808080L;
+  private static final long LOWER_CASE_BITS = 0x2020202020202020L;
+
+  // Suppresses default constructor, ensuring non-instantiability.
+  private Utf8Validator() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns <tt>true</tt> if all the characters encoded in the bytes {@code [from, to)} of the
+   * buffer belong to the given kind.
+   */
+  static boolean allMatch(final ByteBuffer buffer, final int from, final int to, final int kind) {
+    int i = from;
+    for (; i + 8 <= to; i += 8) {
+      final long word = buffer.getLong(i);
+      if ((word & HIGH_BITS) != 0) {
+        return allMatchDecoded(buffer, i, to, kind);
+      }
+      if (!matches(word, kind)) {
+        return false;
+      }
+    }
+    for (; i < to; i++) {
+      final byte b = buffer.get(i);
+      if (b < 0) {
+        return allMatchDecoded(buffer, i, to, kind);
+      }
+      if (!matches((char) b, kind)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean matches(final long word, final int kind) {
+    switch (kind) {
+      case DIGITS:
+        return digits(word) == HIGH_BITS;
+      case LETTERS:
+        return letters(word) == HIGH_BITS;
+      default:
+        return (digits(word) | letters(word)) == HIGH_BITS;
+    }
+  }
+
+  /**
+   * Returns the high bit of each byte of {@code word} in {@code ['0', '9']}.
+   */
+  private static long digits(final long word) {
+    // b + 0x50 >= 0x80 iff b >= '0', b + 0x46 < 0x80 iff b <= '9'
+    return (word + 0x5050505050505050L) & ~(word + 0x4646464646464646L) & HIGH_BITS;
+  }
+
+  /**
+   * Returns the high bit of each byte of {@code word} in {@code ['A', 'Z']} or {@code ['a', 'z']}.
+   */
+  private static long letters(final long word) {
+    // setting 0x20 maps exactly the upper case letters to the lower case ones in ['a', 'z']
+    final long folded = word | LOWER_CASE_BITS;
+    // b + 0x1F >= 0x80 iff b >= 'a', b + 0x05 < 0x80 iff b <= 'z'
+    return (folded + 0x1F1F1F1F1F1F1F1FL) & ~(folded + 0x0505050505050505L) & HIGH_BITS;
+  }
+
+  private static boolean matches(final char c, final int kind) {
+    switch (kind) {
+      case DIGITS:
+        return Character.isDigit(c);
+      case LETTERS:
+        return Character.isLetter(c);
+      default:
+        return Character.isDigit(c) || Character.isLetter(c);
+    }
+  }
+
+  private static boolean allMatchDecoded(final ByteBuffer buffer, final int from, final int to,
+      final int kind) {
+    final ByteBuffer range = buffer.duplicate();
+    range.limit(to).position(from);
+    // malformed input is replaced by U+FFFD, which is neither a letter nor a digit
+    final CharBuffer chars = StandardCharsets.UTF_8.decode(range);
+    while (chars.hasRemaining()) {
+      if (!matches(chars.get(), kind)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -1,5 +1,6 @@
 package com.github.mforoni.jbasic.io;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
@@ -15,8 +16,11 @@ import java.util.Iterator;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import com.github.mforoni.jbasic.PackedStringList;
+import com.github.mforoni.jbasic.StringInterner;
 import com.google.common.annotations.Beta;
 import com.google.common.base.Predicate;
+import com.google.common.collect.Interner;
 
 /**
  * Provides {@code static} utility methods for manipulating files and directories.
@@ -87,6 +91,64 @@ public final class JFiles {
     return Files.readAllLines(path, CHARSET_UTF8);
   }
 
+  /**
+   * Reads all the lines of the given file, encoded in UTF-8, replacing each line with its
+   * canonical instance from the given {@link Interner}, so that the repeated lines are kept in
+   * memory once.
+   *
+   * @param file the file to read
+   * @param interner the interner of the lines
+   * @return the lines of the file
+   * @throws IOException if an I/O error occurs
+   * @see StringInterner
+   */
+  public static List<String> readLines(@Nonnull final File file,
+      @Nonnull final Interner<String> interner) throws IOException {
+    return readLines(file.toPath(), interner);
+  }
+
+  /**
+   * Reads all the lines of the given file, encoded in UTF-8, replacing each line with its
+   * canonical instance from the given {@link Interner}, so that the repeated lines are kept in
+   * memory once.
+   *
+   * @param path the path of the file to read
+   * @param interner the interner of the lines
+   * @return the lines of the file
+   * @throws IOException if an I/O error occurs
+   * @see StringInterner
+   */
+  public static List<String> readLines(@Nonnull final Path path,
+      @Nonnull final Interner<String> interner) throws IOException {
+    final List<String> lines = new ArrayList<>();
+    try (final BufferedReader reader = Files.newBufferedReader(path, CHARSET_UTF8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lines.add(interner.intern(line));
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * Reads all the lines of the given file, encoded in UTF-8, into a {@link PackedStringList},
+   * keeping them in a single backing array instead of one {@code String} per line.
+   *
+   * @param path the path of the file to read
+   * @return the lines of the file
+   * @throws IOException if an I/O error occurs
+   */
+  public static PackedStringList readPackedLines(@Nonnull final Path path) throws IOException {
+    final PackedStringList.Builder builder = PackedStringList.builder();
+    try (final BufferedReader reader = Files.newBufferedReader(path, CHARSET_UTF8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        builder.add(line);
+      }
+    }
+    return builder.build();
+  }
+
   public static List<Path> list(@Nonnull final Path dirPath) throws IOException {
     return list(dirPath, null);
   }
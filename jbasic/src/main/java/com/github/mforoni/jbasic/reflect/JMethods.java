@@ -7,7 +7,6 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import com.github.mforoni.jbasic.JStrings;
 import com.google.common.annotations.Beta;
 import com.google.common.base.Optional;
 
@@ -61,13 +60,24 @@ public class JMethods {
   @Nonnull
   public static String getterName(@Nonnull final String fieldName,
       @Nonnull final Class<?> fieldType) {
-    final String start = JTypes.isBoolean(fieldType) ? "is" : "get";
-    return start.concat(JStrings.capitalize(fieldName));
+    return accessorName(JTypes.isBoolean(fieldType) ? "is" : "get", fieldName);
   }
 
   @Nonnull
   public static String setterName(@Nonnull final String fieldName) {
-    return "set".concat(JStrings.capitalize(fieldName));
+    return accessorName("set", fieldName);
+  }
+
+  /**
+   * Returns {@code prefix} followed by {@code fieldName} capitalized, with a single copy of the
+   * characters.
+   */
+  private static String accessorName(final String prefix, final String fieldName) {
+    final char[] name = new char[prefix.length() + fieldName.length()];
+    prefix.getChars(0, prefix.length(), name, 0);
+    fieldName.getChars(0, fieldName.length(), name, prefix.length());
+    name[prefix.length()] = Character.toUpperCase(fieldName.charAt(0));
+    return new String(name);
   }
 
   public static Optional<Method> optional(@Nonnull final Class<?> type,
@@ -11,6 +11,8 @@ import org.joda.time.format.DateTimeFormatterBuilder;
 import org.joda.time.format.DateTimeParser;
 import com.github.mforoni.jbasic.JArrays;
 import com.github.mforoni.jbasic.JStrings;
+import com.github.mforoni.jbasic.NumberFormatter;
+import com.google.common.base.Preconditions;
 
 /**
  * Provides {@code static} utility methods for manipulating {@link LocalDate} objects.
@@ -35,6 +37,14 @@ public final class JLocalDates {
       JArrays.concat(YEAR_MONTH_DAY_NUMERIC_DATE_FORMATS, MONTH_DAY_YEAR_NUMERIC_DATE_FORMATS,
           DAY_MONTH_YEAR_NUMERIC_DATE_FORMATS, String.class);
 
+  // the scratch space of a thread for formatting dates, long enough for any year
+  private static final ThreadLocal<char[]> BUFFERS = new ThreadLocal<char[]>() {
+    @Override
+    protected char[] initialValue() {
+      return new char[32];
+    }
+  };
+
   // Suppresses default constructor, ensuring non-instantiability.
   private JLocalDates() {
     throw new AssertionError();
@@ -146,6 +156,83 @@ public final class JLocalDates {
     return parse(text, ISO_8601_PATTERN.get());
   }
 
+  /**
+   * Writes the given {@code date} formatted with the numeric {@code pattern} into {@code dst} from
+   * {@code offset}, with the same result of {@link LocalDate#toString(String)} but without creating
+   * any intermediate object: the fields are written directly as zero-padded numbers.
+   * 
+   * @param date the date to format
+   * @param pattern the numeric pattern to format with
+   * @param dst the array to write into
+   * @param offset the index of the first character to write
+   * @return the index following the last character written
+   * @throws IllegalArgumentException if the pattern has a letter other than {@code y}, {@code M}
+   *         and {@code d}
+   * @throws IndexOutOfBoundsException if {@code dst} has not enough room
+   */
+  public static int format(@Nonnull final LocalDate date, @Nonnull final Pattern pattern,
+      @Nonnull final char[] dst, final int offset) {
+    final String p = pattern.get();
+    int position = offset;
+    int i = 0;
+    while (i < p.length()) {
+      final char c = p.charAt(i);
+      if (c == 'y' || c == 'M' || c == 'd') {
+        int end = i + 1;
+        while (end < p.length() && p.charAt(end) == c) {
+          end++;
+        }
+        final int value = c == 'y' ? date.getYear()
+            : c == 'M' ? date.getMonthOfYear() : date.getDayOfMonth();
+        // the sign of a negative year does not count in the width
+        position = NumberFormatter.format(value, value < 0 ? end - i + 1 : end - i, dst, position);
+        i = end;
+      } else {
+        Preconditions.checkArgument(!Character.isLetter(c),
+            "Unsupported letter '%s' in the numeric pattern %s", c, p);
+        dst[position++] = c;
+        i++;
+      }
+    }
+    return position;
+  }
+
+  /**
+   * Writes the given {@code date} formatted with the numeric {@code pattern} into {@code dst} from
+   * {@code offset}, as ASCII bytes.
+   * 
+   * @see #format(LocalDate, Pattern, char[], int)
+   */
+  public static int format(@Nonnull final LocalDate date, @Nonnull final Pattern pattern,
+      @Nonnull final byte[] dst, final int offset) {
+    final char[] chars = BUFFERS.get();
+    final int length = format(date, pattern, chars, 0);
+    Preconditions.checkPositionIndexes(offset, offset + length, dst.length);
+    for (int i = 0; i < length; i++) {
+      dst[offset + i] = (byte) chars[i];
+    }
+    return offset + length;
+  }
+
+  /**
+   * Appends the given {@code date} formatted with the numeric {@code pattern} to
+   * {@code builder}.
+   * 
+   * @param builder the builder to append to
+   * @param date the date to format
+   * @param pattern the numeric pattern to format with
+   * @return {@code builder}
+   * @throws IllegalArgumentException if the pattern has a letter other than {@code y}, {@code M}
+   *         and {@code d}
+   * @see #format(LocalDate, Pattern, char[], int)
+   */
+  @Nonnull
+  public static StringBuilder append(@Nonnull final StringBuilder builder,
+      @Nonnull final LocalDate date, @Nonnull final Pattern pattern) {
+    final char[] chars = BUFFERS.get();
+    return builder.append(chars, 0, format(date, pattern, chars, 0));
+  }
+
   /**
    * Returns a list of {@link InferredLocalDate} objects where each one contains the successful
    * parsing of the given {@code text} using one of the format pattern of the array
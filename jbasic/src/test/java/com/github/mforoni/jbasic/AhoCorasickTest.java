@@ -0,0 +1,97 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * @author Foroni Marco
+ */
+public class AhoCorasickTest {
+  private static final AhoCorasick KEYWORDS = AhoCorasick.of("he", "she", "his", "hers");
+
+  @Test
+  public void testContainsAny() {
+    assertTrue(KEYWORDS.containsAny("ushers"));
+    assertFalse(KEYWORDS.containsAny("a text without keywords"));
+    assertFalse(KEYWORDS.containsAny(""));
+  }
+
+  @Test
+  public void testFindFirst() {
+    final AhoCorasick.Match match = KEYWORDS.findFirst("ushers");
+    assertEquals(1, match.getPatternIndex());
+    assertEquals(1, match.getStart());
+    assertEquals(4, match.getEnd());
+    assertNull(KEYWORDS.findFirst("hi"));
+  }
+
+  @Test
+  public void testFindAll() {
+    final List<AhoCorasick.Match> matches = KEYWORDS.findAll("ushers");
+    assertEquals(3, matches.size());
+    assertEquals("1@[1, 4)", matches.get(0).toString());
+    assertEquals("0@[2, 4)", matches.get(1).toString());
+    assertEquals("3@[2, 6)", matches.get(2).toString());
+  }
+
+  @Test
+  public void testCount() {
+    assertArrayEquals(new int[] {2, 1, 1, 1}, KEYWORDS.count("ushers and his hen"));
+    final int[] counts = new int[4];
+    KEYWORDS.count("she", counts);
+    KEYWORDS.count("she", counts);
+    assertArrayEquals(new int[] {2, 2, 0, 0}, counts);
+  }
+
+  @Test
+  public void testCountAsIndexOf() {
+    final Random random = new Random(47);
+    final String[] patterns = new String[50];
+    for (int i = 0; i < patterns.length; i++) {
+      patterns[i] = RandomStrings.of(random, 1 + random.nextInt(4), "abc");
+    }
+    final AhoCorasick ahoCorasick = AhoCorasick.of(patterns);
+    for (int t = 0; t < 100; t++) {
+      final String text = RandomStrings.of(random, random.nextInt(200), "abc");
+      final int[] counts = ahoCorasick.count(text);
+      int total = 0;
+      for (int i = 0; i < patterns.length; i++) {
+        int expected = 0;
+        if (firstIndexOf(patterns, patterns[i]) == i) {
+          for (int from = text.indexOf(patterns[i]); from != -1;
+              from = text.indexOf(patterns[i], from + 1)) {
+            expected++;
+          }
+        }
+        assertEquals(expected, counts[i]);
+        total += expected;
+      }
+      assertEquals(total, ahoCorasick.findAll(text).size());
+    }
+  }
+
+  private static int firstIndexOf(final String[] patterns, final String pattern) {
+    for (int i = 0; i < patterns.length; i++) {
+      if (patterns[i].equals(pattern)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooManyTransitions() {
+    // 50000 states over an alphabet of 50000 characters
+    final char[] pattern = new char[50000];
+    for (int i = 0; i < pattern.length; i++) {
+      pattern[i] = (char) (i + 1);
+    }
+    AhoCorasick.of(new String(pattern));
+  }
+}
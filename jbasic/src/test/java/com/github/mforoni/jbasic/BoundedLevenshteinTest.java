@@ -0,0 +1,49 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import java.util.Random;
+import org.junit.Test;
+import info.debatty.java.stringsimilarity.Levenshtein;
+
+/**
+ * @author Foroni Marco
+ */
+public class BoundedLevenshteinTest {
+  private final BoundedLevenshtein boundedLevenshtein = new BoundedLevenshtein();
+
+  @Test
+  public void testDistanceStringString() {
+    assertEquals(0, boundedLevenshtein.distance("", ""), 0);
+    assertEquals(4, boundedLevenshtein.distance("", "book"), 0);
+    assertEquals(3, boundedLevenshtein.distance("kitten", "sitting"), 0);
+    assertEquals(2, boundedLevenshtein.distance("flaw", "lawn"), 0);
+  }
+
+  @Test
+  public void testDistanceStringStringInt() {
+    assertEquals(3, boundedLevenshtein.distance("kitten", "sitting", 3));
+    assertEquals(-1, boundedLevenshtein.distance("kitten", "sitting", 2));
+    assertEquals(-1, boundedLevenshtein.distance("", "book", 3));
+    assertEquals(0, boundedLevenshtein.distance("book", "book", 0));
+    assertEquals(-1, boundedLevenshtein.distance("book", "bookcase", 3));
+  }
+
+  @Test
+  public void testDistanceAsLevenshtein() {
+    final Levenshtein levenshtein = new Levenshtein();
+    final Random random = new Random(3);
+    for (int i = 0; i < 5000; i++) {
+      final String s1 = randomString(random);
+      final String s2 = randomString(random);
+      final int expected = (int) levenshtein.distance(s1, s2);
+      final int threshold = random.nextInt(12);
+      assertEquals(expected, boundedLevenshtein.distance(s1, s2), 0);
+      assertEquals(expected <= threshold ? expected : -1,
+          boundedLevenshtein.distance(s1, s2, threshold));
+    }
+  }
+
+  private static String randomString(final Random random) {
+    return RandomStrings.of(random, random.nextInt(100) == 0 ? 200 : random.nextInt(15), "abcd");
+  }
+}
@@ -0,0 +1,42 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import com.google.common.base.Strings;
+
+/**
+ * @author Foroni Marco
+ */
+public class CaseConverterTest {
+  @Test
+  public void testConvert() {
+    final CaseConverter lowerCamel = CaseConverter.lowerCamel();
+    assertEquals("customerFirstName", lowerCamel.convert("CUSTOMER_first-name"));
+    assertEquals("customerFirstName", lowerCamel.convert("customer first name"));
+    assertEquals("customerFirstName", lowerCamel.convert("__customer--first  name_"));
+    assertEquals("customer", lowerCamel.convert("Customer"));
+    assertEquals("", lowerCamel.convert("_-_"));
+    assertEquals("", lowerCamel.convert(""));
+    assertEquals("CustomerFirstName", CaseConverter.upperCamel().convert("customer_first_name"));
+    final String longName = Strings.repeat("very_", 20) + "long";
+    assertEquals(Strings.repeat("Very", 20) + "Long", CaseConverter.upperCamel().convert(longName));
+  }
+
+  @Test
+  public void testConvertCached() {
+    final CaseConverter lowerCamel = CaseConverter.lowerCamel();
+    for (int i = 0; i < 100; i++) {
+      assertEquals("orderId", lowerCamel.convert("ORDER_ID"));
+    }
+    assertTrue(lowerCamel.hitRate() > 0);
+  }
+
+  @Test
+  public void testAppendTo() {
+    final StringBuilder sb = new StringBuilder();
+    CaseConverter.lowerCamel().appendTo(sb, "order_id").append(',');
+    CaseConverter.upperCamel().appendTo(sb, new StringBuilder("order-date"));
+    assertEquals("orderId,OrderDate", sb.toString());
+  }
+}
@@ -0,0 +1,58 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author Foroni Marco
+ */
+public class CharClassTest {
+  private static final CharClass DIGITS = CharClass.inRange('0', '9');
+  private static final CharClass HEX =
+      DIGITS.union(CharClass.inRange('a', 'f')).union(CharClass.anyOf("ABCDEF"));
+
+  @Test
+  public void testMatches() {
+    assertTrue(DIGITS.matches('0'));
+    assertTrue(DIGITS.matches('9'));
+    assertFalse(DIGITS.matches('a'));
+    assertTrue(CharClass.of('\uFFFF', 'à').matches('\uFFFF'));
+    assertTrue(CharClass.of('\uFFFF', 'à').matches('à'));
+    assertFalse(CharClass.of('\uFFFF', 'à').matches('a'));
+  }
+
+  @Test
+  public void testUnionIntersectionNegate() {
+    assertTrue(HEX.matches('c'));
+    assertTrue(HEX.matches('F'));
+    assertFalse(HEX.matches('g'));
+    assertEquals(DIGITS, HEX.intersection(CharClass.inRange('\0', '9')));
+    assertEquals(CharClass.anyOf("ABCDEF"), HEX.intersection(CharClass.inRange('A', 'Z')));
+    assertFalse(DIGITS.negate().matches('5'));
+    assertTrue(DIGITS.negate().matches('\uFFFF'));
+    assertEquals(DIGITS, DIGITS.negate().negate());
+  }
+
+  @Test
+  public void testIndexOfAny() {
+    assertEquals(3, DIGITS.indexOfAny("abc123"));
+    assertEquals(4, DIGITS.indexOfAny("abc123", 4, 6));
+    assertEquals(-1, DIGITS.indexOfAny("abc123", 0, 3));
+    assertEquals(-1, DIGITS.indexOfAny(""));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testIndexOfAnyInvalidRange() {
+    DIGITS.indexOfAny("abc", 2, 4);
+  }
+
+  @Test
+  public void testAllMatch() {
+    assertTrue(HEX.allMatch("CafeBabe01"));
+    assertFalse(HEX.allMatch("CafeBabe0x"));
+    assertTrue(HEX.allMatch("0xCafe", 2, 6));
+    assertTrue(HEX.allMatch(""));
+  }
+}
@@ -0,0 +1,47 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertArrayEquals;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import org.junit.Test;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * @author Foroni Marco
+ */
+public class CharHistogramTest {
+  private static final String TEXT = "akjhdfsjkfsbs l346klàba V ew ew we rct3tr";
+
+  @Test
+  public void testCountCharSequence() {
+    assertArrayEquals(new int[] {2, 3, 2, 0}, CharHistogram.of('j', 'e', 'j', 'z').count(TEXT));
+    assertArrayEquals(new int[] {1, 3, 0}, CharHistogram.of('à', 'e', 'é').count(TEXT));
+    assertArrayEquals(new int[] {3},
+        CharHistogram.of('w').count(CharBuffer.wrap(TEXT.toCharArray(), 20, 15)));
+    assertArrayEquals(new int[] {3}, CharHistogram.of('w').count(CharBuffer.wrap(TEXT)));
+    assertArrayEquals(new int[0], CharHistogram.of().count(TEXT));
+  }
+
+  @Test
+  public void testCountCharArrayIntInt() {
+    assertArrayEquals(new int[] {2, 0},
+        CharHistogram.of('e', 'à').count(TEXT.toCharArray(), 26, 30));
+  }
+
+  @Test
+  public void testCountIterable() {
+    assertArrayEquals(new int[] {4, 6},
+        CharHistogram.of('j', 'e').count(ImmutableList.of(TEXT, "", TEXT)));
+  }
+
+  @Test
+  public void testCountReader() throws IOException {
+    final StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      sb.append(TEXT).append('\n');
+    }
+    assertArrayEquals(new int[] {1000, 3000, 1000},
+        CharHistogram.of('\n', 'e', 'à').count(new StringReader(sb.toString())));
+  }
+}
@@ -0,0 +1,65 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * @author Foroni Marco
+ */
+public class CharSplitterTest {
+  @Test
+  public void testIsSeparator() {
+    final CharSplitter splitter = CharSplitter.on(',', ';', 'è');
+    assertTrue(splitter.isSeparator(','));
+    assertTrue(splitter.isSeparator('è'));
+    assertFalse(splitter.isSeparator('.'));
+    assertFalse(splitter.isSeparator('é'));
+  }
+
+  @Test
+  public void testSplit() {
+    final CharSplitter splitter = CharSplitter.on(' ', '_', '-');
+    assertArrayEquals(new String[] {"A", "very", "long", "text", "that", "need", "to", "be",
+        "split!"}, splitter.split("A very long_text that need-to be split!"));
+    assertArrayEquals(new String[] {""}, splitter.split(""));
+    assertArrayEquals(new String[0], splitter.split(" _-"));
+    assertArrayEquals(new String[] {"", "a", "", "b"}, splitter.split("-a__b--"));
+    final Random random = new Random(37);
+    final char[] alphabet = {'a', 'b', ',', ';', '['};
+    final CharSplitter other = CharSplitter.on(',', ';', '[');
+    for (int i = 0; i < 1000; i++) {
+      final char[] chars = new char[random.nextInt(10)];
+      for (int j = 0; j < chars.length; j++) {
+        chars[j] = alphabet[random.nextInt(alphabet.length)];
+      }
+      final String s = new String(chars);
+      assertArrayEquals(s.split("[,;\\[]"), other.split(s));
+    }
+  }
+
+  @Test
+  public void testSlices() {
+    final List<String> fields = new ArrayList<>();
+    for (final CharSequence slice : CharSplitter.on(',').slices(",ab,c,,")) {
+      fields.add(slice.toString());
+    }
+    assertEquals(ImmutableList.of("", "ab", "c", "", ""), fields);
+    fields.clear();
+    for (final CharSequence slice : CharSplitter.on(',').slices("")) {
+      assertEquals(0, slice.length());
+      fields.add(slice.toString());
+    }
+    assertEquals(ImmutableList.of(""), fields);
+    final CharSequence slice = CharSplitter.on(' ').slices("hello world").iterator().next();
+    assertEquals(5, slice.length());
+    assertEquals('o', slice.charAt(4));
+    assertEquals("ll", slice.subSequence(2, 4).toString());
+  }
+}
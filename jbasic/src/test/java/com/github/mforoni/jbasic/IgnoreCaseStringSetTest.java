@@ -0,0 +1,62 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.Random;
+import org.junit.Test;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * @author Foroni Marco
+ */
+public class IgnoreCaseStringSetTest {
+  private static final IgnoreCaseStringSet HEADERS =
+      IgnoreCaseStringSet.of("Id", "Name", "Country", "NAME", "Città", "");
+
+  @Test
+  public void testSize() {
+    assertEquals(6, HEADERS.size());
+    assertEquals("Country", HEADERS.get(2));
+  }
+
+  @Test
+  public void testContains() {
+    assertTrue(HEADERS.contains("id"));
+    assertTrue(HEADERS.contains("COUNTRY"));
+    assertTrue(HEADERS.contains(new StringBuilder("CITTÀ")));
+    assertTrue(HEADERS.contains(""));
+    assertFalse(HEADERS.contains("Citta"));
+    assertFalse(HEADERS.contains(null));
+    assertFalse(IgnoreCaseStringSet.of().contains("id"));
+  }
+
+  @Test
+  public void testIndexOf() {
+    assertEquals(0, HEADERS.indexOf("ID"));
+    assertEquals(1, HEADERS.indexOf("name"));
+    assertEquals(4, HEADERS.indexOf("città"));
+    assertEquals(-1, HEADERS.indexOf("surname"));
+  }
+
+  @Test
+  public void testIndexOfAsEqualsIgnoreCase() {
+    final Random random = new Random(43);
+    final String alphabet = "aAbBıIiİſsSkKKß";
+    final String[] strings = new String[300];
+    for (int i = 0; i < strings.length; i++) {
+      strings[i] = RandomStrings.of(random, random.nextInt(4), alphabet);
+    }
+    final IgnoreCaseStringSet set = IgnoreCaseStringSet.copyOf(ImmutableList.copyOf(strings));
+    for (int i = 0; i < 1000; i++) {
+      final String key = RandomStrings.of(random, random.nextInt(4), alphabet);
+      int expected = -1;
+      for (int j = 0; j < strings.length && expected == -1; j++) {
+        if (strings[j].equalsIgnoreCase(key)) {
+          expected = j;
+        }
+      }
+      assertEquals(expected, set.indexOf(key));
+    }
+  }
+}
@@ -53,6 +53,7 @@ public class JArraysTest {
   public void testIndexOfIgnoreCaseStringArrayStringInt() {
     assertEquals(1, JArrays.indexOfIgnoreCase(STRING_1_2_3, "2", 0));
     assertEquals(-1, JArrays.indexOfIgnoreCase(STRING_a_b_c, "a", 1));
+    assertEquals(2, JArrays.indexOfIgnoreCase(STRING_a_b_c, "C", 0));
   }
 
   @Test
@@ -5,9 +5,22 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
 import org.junit.Test;
 import com.github.mforoni.jbasic.JStrings;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import info.debatty.java.stringsimilarity.Levenshtein;
+import info.debatty.java.stringsimilarity.interfaces.MetricStringDistance;
 
 /**
  * @author Foroni Marco
@@ -24,12 +37,90 @@ public class JStringsTest {
 
   @Test
   public void testSimilarsStringCollectionOfString() {
-    // TODO
+    final List<String> words = ImmutableList.of("book", "books", "cake", "boo", "cook", "cape");
+    assertEquals(ImmutableSet.of("book"), JStrings.similars("book", words));
+    assertEquals(ImmutableSet.of("cake", "cape"), JStrings.similars("caqe", words));
+    assertEquals(ImmutableSet.of("boo", "book"), JStrings.similars("bok", words));
+    assertTrue(JStrings.similars("book", ImmutableList.<String>of()).isEmpty());
   }
 
   @Test
   public void testSimilarsStringCollectionOfStringMetricStringDistance() {
-    // TODO
+    final Random random = new Random(7);
+    final List<String> words = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      words.add(randomWord(random));
+    }
+    final Levenshtein levenshtein = new Levenshtein();
+    for (int i = 0; i < 100; i++) {
+      final String key = randomWord(random);
+      final Set<String> expected = new HashSet<>();
+      double min = Double.MAX_VALUE;
+      for (final String word : words) {
+        final double distance = levenshtein.distance(word, key);
+        if (distance < min) {
+          min = distance;
+          expected.clear();
+        }
+        if (distance == min) {
+          expected.add(word);
+        }
+      }
+      assertEquals(expected, JStrings.similars(key, words, levenshtein));
+      assertEquals(expected, JStrings.similars(key, words, new BoundedLevenshtein()));
+      assertEquals(expected, JStrings.similars(key, words, new MyersLevenshtein()));
+    }
+  }
+
+  @Test
+  public void testParallelSimilars() {
+    final Random random = new Random(11);
+    final List<String> words = new ArrayList<>();
+    for (int i = 0; i < 20000; i++) {
+      words.add(randomWord(random));
+    }
+    final MetricStringDistance unbounded = new MetricStringDistance() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public double distance(final String s1, final String s2) {
+        return new Levenshtein().distance(s1, s2);
+      }
+    };
+    for (int i = 0; i < 10; i++) {
+      final String key = randomWord(random);
+      final Set<String> expected = JStrings.similars(key, words);
+      assertEquals(expected, JStrings.parallelSimilars(key, words));
+      assertEquals(expected, JStrings.parallelSimilars(key, new HashSet<>(words)));
+      assertEquals(expected, JStrings.parallelSimilars(key, words, unbounded));
+    }
+    assertTrue(JStrings.parallelSimilars("book", ImmutableList.<String>of()).isEmpty());
+  }
+
+  @Test
+  public void testTopSimilars() {
+    final List<String> words =
+        ImmutableList.of("book", "books", "cake", "boo", "cook", "cape", "book", "bock");
+    assertEquals(ImmutableList.of(new ScoredString("book", 0), new ScoredString("bock", 1),
+        new ScoredString("boo", 1)), JStrings.topSimilars("book", words, 3));
+    assertEquals(7, JStrings.topSimilars("book", words, 10).size());
+    assertTrue(JStrings.topSimilars("book", words, 0).isEmpty());
+    final Random random = new Random(13);
+    final List<String> randomWords = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      randomWords.add(randomWord(random));
+    }
+    final Levenshtein levenshtein = new Levenshtein();
+    for (int i = 0; i < 50; i++) {
+      final String key = randomWord(random);
+      final List<ScoredString> expected = new ArrayList<>();
+      for (final String word : new HashSet<>(randomWords)) {
+        expected.add(new ScoredString(word, levenshtein.distance(word, key)));
+      }
+      Collections.sort(expected);
+      assertEquals(expected.subList(0, 10), JStrings.topSimilars(key, randomWords, 10));
+      assertEquals(expected, JStrings.topSimilars(key, randomWords, 1000, levenshtein));
+    }
   }
 
   @Test
@@ -45,7 +136,9 @@ public class JStringsTest {
 
   @Test
   public void testMatches() {
-    // do nothing: relies on java.util.regex.Matcher.matches(String)
+    assertTrue(JStrings.matches("2018-03-08", "\\d{4}-\\d{2}-\\d{2}"));
+    assertFalse(JStrings.matches("2018-03-08 ", "\\d{4}-\\d{2}-\\d{2}"));
+    assertTrue(JStrings.matches("abc", java.util.regex.Pattern.compile("[a-c]+")));
   }
 
   @Test
@@ -77,12 +170,42 @@ public class JStringsTest {
 
   @Test
   public void testSplitEscapingQuotedStringChar() {
-    // TODO
+    assertArrayEquals(new String[] {"a", "\"b;c\"", "", "\"d \"\"e;\"\"\"", ""},
+        JStrings.splitEscapingQuoted("a;\"b;c\";;\"d \"\"e;\"\"\";", ';'));
+    final Random random = new Random(41);
+    final char[] alphabet = {'a', ',', '"', ' '};
+    for (int i = 0; i < 1000; i++) {
+      final char[] chars = new char[random.nextInt(12)];
+      for (int j = 0; j < chars.length; j++) {
+        chars[j] = alphabet[random.nextInt(alphabet.length)];
+      }
+      final String s = new String(chars);
+      assertArrayEquals(s.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1),
+          JStrings.splitEscapingQuoted(s, ','));
+    }
   }
 
   @Test
   public void testSplitEscapingQuotedString() {
-    // TODO
+    assertArrayEquals(new String[] {"1", "\"Doe, John\"", ""},
+        JStrings.splitEscapingQuoted("1,\"Doe, John\","));
+    assertArrayEquals(new String[] {""}, JStrings.splitEscapingQuoted(""));
+  }
+
+  @Test
+  public void testSplitEscapingQuotedCharSequenceCharList() {
+    final List<String> fields = new ArrayList<>();
+    assertEquals(3, JStrings.splitEscapingQuoted("1,\"Doe, John\",", ',', fields));
+    assertEquals(ImmutableList.of("1", "\"Doe, John\"", ""), fields);
+  }
+
+  @Test
+  public void testSplitEscapingQuotedCharSequenceCharStringArray() {
+    final String[] fields = new String[2];
+    assertEquals(2, JStrings.splitEscapingQuoted("a,\"b,c\"", ',', fields));
+    assertArrayEquals(new String[] {"a", "\"b,c\""}, fields);
+    assertEquals(3, JStrings.splitEscapingQuoted("x,y,z", ',', fields));
+    assertArrayEquals(new String[] {"x", "y"}, fields);
   }
 
   @Test
@@ -113,6 +236,8 @@ public class JStringsTest {
     assertEquals("falcO", JStrings.capitalize("falco", 4));
     assertEquals("Falco", JStrings.capitalize("falco", 0));
     assertEquals("faLco", JStrings.capitalize("faLco", 2));
+    final String falco = "Falco";
+    assertTrue(falco == JStrings.capitalize(falco));
   }
 
   @Test
@@ -156,18 +281,67 @@ public class JStringsTest {
 
   @Test
   public void testLowerCamelCaseStringString() {
-    // TODO
+    assertEquals("customerFirstName", JStrings.lowerCamelCase("CUSTOMER_first-name", "[_-]"));
+    assertEquals("abc", JStrings.lowerCamelCase("_abc", "_"));
+    assertEquals("aB", JStrings.lowerCamelCase("a__b", "_"));
+    assertEquals("", JStrings.lowerCamelCase("___", "_"));
   }
 
   @Test
   public void testLowerCamelCaseStringCharCharArray() {
-    // TODO
+    assertEquals("customerFirstName", JStrings.lowerCamelCase("CUSTOMER_first-name", '_', '-'));
+    assertEquals("abc", JStrings.lowerCamelCase("_abc", '_'));
+    assertEquals("aB", JStrings.lowerCamelCase("a__b", '_'));
+    assertEquals("", JStrings.lowerCamelCase("___", '_'));
   }
 
   @Test
   public void testLowerCamelCaseString() {
     assertEquals("notYetImplemented!", JStrings.lowerCamelCase(NOT_YET_IMPLEMENTED));
     assertEquals("test", JStrings.lowerCamelCase("TesT"));
+    assertEquals("abc", JStrings.lowerCamelCase("_abc"));
+    assertEquals("aB", JStrings.lowerCamelCase("a__b"));
+    assertEquals("", JStrings.lowerCamelCase("___"));
+  }
+
+  @Test
+  public void testAppendableOverloads() throws IOException {
+    final StringBuilder record = JStrings.reusableBuilder();
+    JStrings.padEnd(record, "ACME", 8, ' ');
+    JStrings.padStart(record, "42", 6, '0');
+    JStrings.capitalize(record, "milano");
+    JStrings.decapitalize(record, "XY");
+    JStrings.concat(record, ImmutableList.of("|", "end"));
+    assertEquals("ACME    000042MilanoxY|end", record.toString());
+    final StringWriter writer = new StringWriter();
+    JStrings.padEnd(writer, "ACME", 8, ' ');
+    JStrings.padStart(writer, "42", 6, '0');
+    JStrings.capitalize(writer, "milano");
+    JStrings.decapitalize(writer, "XY");
+    JStrings.concat(writer, ImmutableList.of("|", "end"));
+    assertEquals(record.toString(), writer.toString());
+    assertEquals(JStrings.padStart("42", 6, '0'),
+        JStrings.padStart(new StringBuilder(), "42", 6, '0').toString());
+    assertEquals("abc", JStrings.concat(ImmutableList.of("a", "", "bc")));
+    assertEquals("a-a-a", JStrings.concat("a", 3, "-"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPadStartAppendableTooShort() {
+    JStrings.padStart(new StringBuilder(), "abc", 2, ' ');
+  }
+
+  @Test
+  public void testReusableBuilder() {
+    final StringBuilder builder = JStrings.reusableBuilder().append("abc");
+    assertTrue(builder == JStrings.reusableBuilder());
+    assertEquals(0, builder.length());
+  }
+
+  @Test
+  public void testUpperCamelCaseString() {
+    assertEquals("NotYetImplemented!", JStrings.upperCamelCase(NOT_YET_IMPLEMENTED));
+    assertEquals("CustomerFirstName", JStrings.upperCamelCase("CUSTOMER_first-name"));
   }
 
   @Test
@@ -225,6 +399,34 @@ public class JStringsTest {
     assertTrue(JStrings.isAlphanumeric("235424627"));
     assertFalse(JStrings.isAlphanumeric("23542 4627"));
   }
+  @Test
+  public void testIsDigitsAlphabeticAlphanumericUtf8() {
+    final List<String> samples = new ArrayList<>(ImmutableList.of("", "7", "0123456789012345",
+        "SGVCNSADsfhdsdddshfhs", "aRSA24FDF0123456", "SGVCNSADsfhdsdààòùddshfhs", "٠١٢٣٤٥٦٧٨٩",
+        "0123456789٠١٢", "23542 4627", "asfS_asfS_asfS_", "abc\uD83D\uDE00"));
+    // each ASCII character at every position of a word
+    for (char c = 0; c < 0x80; c++) {
+      for (int i = 0; i < 8; i++) {
+        samples.add(JStrings.padEnd(JStrings.padStart(String.valueOf(c), i + 1, '5'), 8, '5'));
+        samples.add(JStrings.padEnd(JStrings.padStart(String.valueOf(c), i + 1, 'x'), 8, 'Y'));
+      }
+    }
+    for (final String sample : samples) {
+      final byte[] utf8 = ("#" + sample + "#").getBytes(StandardCharsets.UTF_8);
+      final int to = utf8.length - 1;
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(utf8.length).put(utf8);
+      buffer.position(1).limit(to);
+      assertEquals(sample, JStrings.isDigits(sample), JStrings.isDigits(utf8, 1, to));
+      assertEquals(sample, JStrings.isDigits(sample), JStrings.isDigits(buffer));
+      assertEquals(sample, JStrings.isAlphabetic(sample), JStrings.isAlphabetic(utf8, 1, to));
+      assertEquals(sample, JStrings.isAlphabetic(sample), JStrings.isAlphabetic(buffer));
+      assertEquals(sample, JStrings.isAlphanumeric(sample), JStrings.isAlphanumeric(utf8, 1, to));
+      assertEquals(sample, JStrings.isAlphanumeric(sample), JStrings.isAlphanumeric(buffer));
+      assertEquals(1, buffer.position());
+    }
+    assertFalse(JStrings.isAlphabetic(new byte[] {'a', 'b', (byte) 0xC3}, 0, 3));
+  }
+
 
   @Test
   public void testToAlphanumeric() {
@@ -283,4 +485,12 @@ public class JStringsTest {
   public void testPadEnd() {
     assertEquals("32000", JStrings.padEnd("32", 5, '0'));
   }
+
+  private static String randomWord(final Random random) {
+    final char[] chars = new char[random.nextInt(9)];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = (char) ('a' + random.nextInt(5));
+    }
+    return new String(chars);
+  }
 }
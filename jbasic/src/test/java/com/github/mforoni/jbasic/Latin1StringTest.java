@@ -0,0 +1,96 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+/**
+ * @author Foroni Marco
+ */
+public class Latin1StringTest {
+  private static final String TEXT = "Città,Perché,,Ünïcode,,";
+
+  @Test
+  public void testOf() {
+    final Latin1String s = Latin1String.of(TEXT);
+    assertEquals(TEXT, s.toString());
+    assertEquals(TEXT.length(), s.length());
+    assertEquals('à', s.charAt(4));
+    assertEquals(TEXT.hashCode(), s.hashCode());
+    assertEquals(s, Latin1String.copyOf(TEXT.getBytes(StandardCharsets.ISO_8859_1), 0,
+        TEXT.length()));
+    assertEquals("Perché", s.subSequence(6, 12).toString());
+    assertSame(s, Latin1String.of(s));
+    assertTrue(Latin1String.canEncode(TEXT));
+    assertFalse(Latin1String.canEncode("€"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOfNotLatin1() {
+    Latin1String.of("10 €");
+  }
+
+  @Test
+  public void testEqualsIgnoreCase() {
+    final Latin1String s = Latin1String.of("ÀbÇdÉ");
+    assertTrue(s.equalsIgnoreCase("àBçDé"));
+    assertTrue(s.equalsIgnoreCase(Latin1String.of("àBçDé")));
+    assertFalse(s.equalsIgnoreCase("àBçDe"));
+    assertFalse(s.equalsIgnoreCase(null));
+    assertTrue(Latin1String.of("µ").equalsIgnoreCase("Μ"));
+  }
+
+  @Test
+  public void testCapitalizeDecapitalize() {
+    assertEquals("Èlite", Latin1String.of("èlite").capitalize().toString());
+    assertEquals("élite", Latin1String.of("Élite").decapitalize().toString());
+    assertEquals("abC", Latin1String.of("abc").capitalize(2).toString());
+    assertEquals("ÿes", Latin1String.of("ÿes").capitalize().toString());
+  }
+
+  @Test
+  public void testPad() {
+    final Latin1String s = Latin1String.of("42");
+    assertEquals(JStrings.padStart("42", 5, '0'), s.padStart(5, '0').toString());
+    assertEquals(JStrings.padEnd("42", 5, '·'), s.padEnd(5, '·').toString());
+    assertSame(s, s.padEnd(2, ' '));
+  }
+
+  @Test
+  public void testOccurrencesIndexOfIsDigits() {
+    final Latin1String s = Latin1String.of(TEXT);
+    assertEquals(JStrings.occurrences(TEXT, ','), s.occurrences(','));
+    assertEquals(0, s.occurrences('€'));
+    assertEquals(TEXT.indexOf('é'), s.indexOf('é'));
+    assertEquals(-1, s.indexOf('€'));
+    assertTrue(Latin1String.of("0123456789").isDigits());
+    assertFalse(s.isDigits());
+  }
+
+  @Test
+  public void testSplit() {
+    final String[] expected = TEXT.split(",");
+    final Latin1String[] actual = Latin1String.of(TEXT).split(',');
+    assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], actual[i].toString());
+    }
+    assertArrayEquals(new Latin1String[] {Latin1String.of("abc")},
+        Latin1String.of("abc").split(';'));
+  }
+
+  @Test
+  public void testCompareTo() {
+    final String[] strings = {"abc", "abd", "ab", "àb", "Zz", ""};
+    for (final String a : strings) {
+      for (final String b : strings) {
+        assertEquals(Integer.signum(a.compareTo(b)),
+            Integer.signum(Latin1String.of(a).compareTo(Latin1String.of(b))));
+      }
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * @author Foroni Marco
+ */
+public class MinHashLshTest {
+  @Test
+  public void testCreate() {
+    final MinHashLsh minHashLsh = MinHashLsh.create(3, 0.5);
+    assertEquals(3, minHashLsh.getShingleSize());
+    assertTrue(minHashLsh.getBands() * minHashLsh.getRows() <= MinHashLsh.DEFAULT_NUM_HASHES);
+    assertTrue(Math.pow(1.0 / minHashLsh.getBands(), 1.0 / minHashLsh.getRows()) <= 0.5);
+  }
+
+  @Test
+  public void testSignature() {
+    final MinHashLsh minHashLsh = MinHashLsh.create(3, 0.5);
+    final int[] signature = minHashLsh.signature("Apple iPhone 8 64GB Silver");
+    assertArrayEquals(signature, minHashLsh.signature("Apple iPhone 8 64GB Silver"));
+    assertEquals(1.0, MinHashLsh.similarity(signature, signature), 0);
+    final double similar =
+        MinHashLsh.similarity(signature, minHashLsh.signature("Apple iPhone 8 64 GB Silver"));
+    final double different =
+        MinHashLsh.similarity(signature, minHashLsh.signature("Samsung Galaxy S9 Midnight Black"));
+    assertTrue(similar > 0.5);
+    assertTrue(different < 0.2);
+  }
+
+  @Test
+  public void testClusters() {
+    final List<String> names = ImmutableList.of("Apple iPhone 8 64GB Silver",
+        "Samsung Galaxy S9 Midnight Black", "Apple iPhone 8 64 GB Silver",
+        "Apple iPhone 8 64GB Silver", "Samsung Galaxy S9 Midnight Black.",
+        "Sony WH-1000XM3 Wireless Headphones", "Apple iPhone 8 64GB Silver!");
+    final List<Set<String>> clusters = MinHashLsh.create(3, 0.5).clusters(names,
+        new BoundedLevenshtein(), 2);
+    assertEquals(ImmutableList.of(
+        ImmutableSet.of("Apple iPhone 8 64GB Silver", "Apple iPhone 8 64 GB Silver",
+            "Apple iPhone 8 64GB Silver!"),
+        ImmutableSet.of("Samsung Galaxy S9 Midnight Black", "Samsung Galaxy S9 Midnight Black."),
+        ImmutableSet.of("Sony WH-1000XM3 Wireless Headphones")), clusters);
+  }
+
+  @Test
+  public void testClustersPartition() {
+    final List<String> names = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      names.add("product number " + i + " of the catalog");
+      names.add("product number " + i + " of the catalogue");
+    }
+    final List<Set<String>> clusters =
+        MinHashLsh.create(4, 0.6).clusters(names, new BoundedLevenshtein(), 2);
+    final Set<String> all = new HashSet<>();
+    for (final Set<String> cluster : clusters) {
+      for (final String s : cluster) {
+        assertTrue(all.add(s));
+      }
+    }
+    assertEquals(new HashSet<>(names), all);
+  }
+}
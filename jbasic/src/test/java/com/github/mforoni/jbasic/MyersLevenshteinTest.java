@@ -0,0 +1,46 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import java.util.Random;
+import org.junit.Test;
+import info.debatty.java.stringsimilarity.Levenshtein;
+
+/**
+ * @author Foroni Marco
+ */
+public class MyersLevenshteinTest {
+  private final MyersLevenshtein myersLevenshtein = new MyersLevenshtein();
+
+  @Test
+  public void testDistanceStringString() {
+    assertEquals(0, myersLevenshtein.distance("", ""), 0);
+    assertEquals(4, myersLevenshtein.distance("book", ""), 0);
+    assertEquals(3, myersLevenshtein.distance("kitten", "sitting"), 0);
+    assertEquals(2, myersLevenshtein.distance("flaw", "lawn"), 0);
+    assertEquals(1, myersLevenshtein.distance("àèìòù", "àèìù"), 0);
+  }
+
+  @Test
+  public void testDistanceStringStringInt() {
+    assertEquals(3, myersLevenshtein.distance("kitten", "sitting", 3));
+    assertEquals(-1, myersLevenshtein.distance("kitten", "sitting", 2));
+    assertEquals(-1, myersLevenshtein.distance("", "book", 3));
+    assertEquals(0, myersLevenshtein.distance("book", "book", 0));
+  }
+
+  @Test
+  public void testDistanceAsLevenshtein() {
+    final Levenshtein levenshtein = new Levenshtein();
+    final Random random = new Random(23);
+    for (int i = 0; i < 3000; i++) {
+      final int maxLength = i % 3 == 0 ? 20 : i % 3 == 1 ? 80 : 300;
+      final String s1 = RandomStrings.of(random, random.nextInt(maxLength), "abcd");
+      final String s2 = RandomStrings.of(random, random.nextInt(maxLength), "abcd");
+      final int expected = (int) levenshtein.distance(s1, s2);
+      final int threshold = random.nextInt(maxLength);
+      assertEquals(expected, myersLevenshtein.distance(s1, s2), 0);
+      assertEquals(expected <= threshold ? expected : -1,
+          myersLevenshtein.distance(s1, s2, threshold));
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import info.debatty.java.stringsimilarity.Levenshtein;
+
+/**
+ * @author Foroni Marco
+ */
+public class NGramIndexTest {
+  private static final List<String> WORDS =
+      ImmutableList.<String>builder().addAll(SimilarityIndexTest.WORDS).add("bookbook").build();
+
+  @Test
+  public void testSize() {
+    assertEquals(12, NGramIndex.create(WORDS).size());
+  }
+
+  @Test
+  public void testSimilars() {
+    final NGramIndex index = NGramIndex.create(WORDS);
+    assertEquals(ImmutableSet.of("book"), index.similars("book"));
+    assertEquals(ImmutableSet.of("cake", "cape"), index.similars("caqe"));
+    assertEquals(ImmutableSet.of("boo", "book", "bock"), index.similars("bok"));
+    assertEquals(ImmutableSet.of(""), index.similars(""));
+    assertEquals(ImmutableSet.of("bookbook"), index.similars("boookbok"));
+    assertTrue(NGramIndex.create(ImmutableList.<String>of()).similars("book").isEmpty());
+  }
+
+  @Test
+  public void testSimilarsAsJStrings() {
+    final Random random = new Random(5);
+    final List<String> words = RandomStrings.list(random, 3000, 0, 14, "abcde");
+    final Levenshtein levenshtein = new Levenshtein();
+    for (int n = 1; n <= 4; n++) {
+      final NGramIndex index = NGramIndex.create(words, n, levenshtein);
+      for (int i = 0; i < 100; i++) {
+        final String key = RandomStrings.of(random, random.nextInt(14), "abcde");
+        assertEquals(JStrings.similars(key, words), index.similars(key));
+      }
+    }
+  }
+
+  @Test
+  public void testWithin() {
+    final Random random = new Random(19);
+    final List<String> words = RandomStrings.list(random, 3000, 0, 14, "abcde");
+    final NGramIndex index = NGramIndex.create(words);
+    final Levenshtein levenshtein = new Levenshtein();
+    for (int i = 0; i < 100; i++) {
+      final String key = RandomStrings.of(random, random.nextInt(14), "abcde");
+      final int maxDistance = random.nextInt(5);
+      final Set<String> expected = new HashSet<>();
+      for (final String word : words) {
+        if (levenshtein.distance(word, key) <= maxDistance) {
+          expected.add(word);
+        }
+      }
+      assertEquals(expected, index.within(key, maxDistance));
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * @author Foroni Marco
+ */
+public class NumberFormatterTest {
+  private static String format(final long value, final int width) {
+    final char[] dst = new char[40];
+    return new String(dst, 0, NumberFormatter.format(value, width, dst, 0));
+  }
+
+  private static String format(final double value) {
+    final char[] dst = new char[NumberFormatter.MAX_DOUBLE_LENGTH];
+    return new String(dst, 0, NumberFormatter.format(value, dst, 0));
+  }
+
+  @Test
+  public void testFormatLong() {
+    assertEquals("0", format(0, 0));
+    assertEquals("-42", format(-42, 0));
+    assertEquals("-0042", format(-42, 5));
+    assertEquals("00042", format(42, 5));
+    assertEquals("123456", format(123456, 3));
+    assertEquals("-9223372036854775808", format(Long.MIN_VALUE, 0));
+    assertEquals("9223372036854775807", format(Long.MAX_VALUE, 0));
+    assertEquals("-2147483648", format(Integer.MIN_VALUE, NumberFormatter.MAX_INT_LENGTH));
+    final Random random = new Random(23);
+    for (int i = 0; i < 10000; i++) {
+      final long value = random.nextLong() >> random.nextInt(64);
+      assertEquals(Long.toString(value), format(value, 0));
+      assertEquals(Long.toString(value).length(), NumberFormatter.length(value));
+      assertEquals(String.format("%025d", value), format(value, 25));
+    }
+  }
+
+  @Test
+  public void testFormatInto() {
+    final char[] chars = new char[8];
+    int end = NumberFormatter.format(7, 2, chars, 0);
+    chars[end++] = ';';
+    end = NumberFormatter.format(-1, chars, end);
+    assertEquals("07;-1", new String(chars, 0, end));
+    final byte[] bytes = new byte[8];
+    end = NumberFormatter.format(-7, 4, bytes, 1);
+    assertEquals("-007", new String(bytes, 1, end - 1, StandardCharsets.US_ASCII));
+    end = NumberFormatter.format(0.5, bytes, 0);
+    assertEquals("0.5", new String(bytes, 0, end, StandardCharsets.US_ASCII));
+    final StringBuilder builder = new StringBuilder("x=");
+    NumberFormatter.append(NumberFormatter.append(builder, -3, 3).append(','), 1e10);
+    assertEquals("x=-03,1.0E10", builder.toString());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testFormatOutOfBounds() {
+    NumberFormatter.format(12345, new char[4], 0);
+  }
+
+  @Test
+  public void testFormatDouble() {
+    assertEquals("0.0", format(0.0));
+    assertEquals("-0.0", format(-0.0));
+    assertEquals("NaN", format(Double.NaN));
+    assertEquals("-Infinity", format(Double.NEGATIVE_INFINITY));
+    assertEquals("1.0", format(1));
+    assertEquals("100.0", format(100));
+    assertEquals("0.1", format(0.1));
+    assertEquals("0.3", format(0.3));
+    assertEquals("0.30000000000000004", format(0.1 + 0.2));
+    assertEquals("0.001", format(0.001));
+    assertEquals("1.0E-4", format(0.0001));
+    assertEquals("1234567.0", format(1234567));
+    assertEquals("1.0E7", format(1e7));
+    assertEquals("-1.2345E-300", format(-1.2345e-300));
+    assertEquals("1.7976931348623157E308", format(Double.MAX_VALUE));
+    assertEquals("2.2250738585072014E-308", format(Double.MIN_NORMAL));
+    assertEquals("5.0E-324", format(Double.MIN_VALUE));
+    assertEquals("0.002", format(0.002));
+    assertEquals("1.0E23", format(1e23));
+  }
+
+  @Test
+  public void testFormatDoubleRoundTrip() {
+    final Random random = new Random(29);
+    for (int i = 0; i < 100000; i++) {
+      final double value = Double.longBitsToDouble(random.nextLong());
+      if (Double.isNaN(value)) {
+        continue;
+      }
+      final String s = format(value);
+      assertEquals(s, value, Double.parseDouble(s), 0);
+      assertTrue(s, s.length() <= Double.toString(value).length());
+      assertEquals(s, Double.toString(value).contains("E"), s.contains("E"));
+    }
+  }
+}
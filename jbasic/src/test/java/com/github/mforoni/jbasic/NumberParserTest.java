@@ -0,0 +1,113 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+import com.github.mforoni.jbasic.NumberParser.Status;
+import com.google.common.primitives.Ints;
+
+/**
+ * @author Foroni Marco
+ */
+public class NumberParserTest {
+  private final NumberParser parser = new NumberParser();
+
+  @Test
+  public void testParseInt() {
+    assertEquals(123, parser.parseInt("123"));
+    assertEquals(Status.OK, parser.status());
+    assertEquals(Integer.MIN_VALUE, parser.parseInt("-2147483648"));
+    assertEquals(Integer.MAX_VALUE, parser.parseInt("2147483647"));
+    assertEquals(7, parser.parseInt("007"));
+    assertEquals(0, parser.parseInt("2147483648"));
+    assertEquals(Status.OVERFLOW, parser.status());
+    assertEquals(0, parser.parseInt(""));
+    assertEquals(Status.EMPTY, parser.status());
+    for (final String invalid : new String[] {"-", "+5", " 5", "5 ", "1a", "١"}) {
+      assertEquals(0, parser.parseInt(invalid));
+      assertEquals(invalid, Status.INVALID, parser.status());
+    }
+    assertEquals(42, parser.parseInt("x=42;", 2, 4));
+    assertEquals(42, parser.parseInt("x=42;".toCharArray(), 2, 4));
+    assertEquals(-42, parser.parseInt("x=-42;".getBytes(StandardCharsets.US_ASCII), 2, 5));
+  }
+
+  @Test
+  public void testParseIntAsTryParse() {
+    final Random random = new Random(13);
+    for (int i = 0; i < 10000; i++) {
+      final String s = Long.toString(random.nextLong() >> random.nextInt(64));
+      final Integer expected = Ints.tryParse(s);
+      final int actual = parser.parseInt(s);
+      if (expected == null) {
+        assertEquals(s, Status.OVERFLOW, parser.status());
+      } else {
+        assertEquals(s, expected.intValue(), actual);
+      }
+    }
+  }
+
+  @Test
+  public void testParseLong() {
+    assertEquals(Long.MIN_VALUE, parser.parseLong("-9223372036854775808"));
+    assertEquals(Long.MAX_VALUE, parser.parseLong("9223372036854775807"));
+    assertEquals(0, parser.parseLong("9223372036854775808"));
+    assertEquals(Status.OVERFLOW, parser.status());
+    assertEquals(0, parser.parseLong("-9223372036854775809"));
+    assertEquals(Status.OVERFLOW, parser.status());
+    assertEquals(0, parser.parseLong("99999999999999999999x"));
+    assertEquals(Status.INVALID, parser.status());
+    final Random random = new Random(17);
+    for (int i = 0; i < 10000; i++) {
+      final long value = random.nextLong() >> random.nextInt(64);
+      assertEquals(value, parser.parseLong(Long.toString(value)));
+    }
+  }
+
+  @Test
+  public void testParseDouble() {
+    assertEquals(12.5e3, parser.parseDouble("12.5e3"), 0);
+    assertEquals(-0.5, parser.parseDouble("-.5"), 0);
+    assertEquals(5, parser.parseDouble("+5."), 0);
+    assertEquals(Double.NaN, parser.parseDouble("NaN"), 0);
+    assertEquals(Double.NEGATIVE_INFINITY, parser.parseDouble("-Infinity"), 0);
+    assertEquals(Double.POSITIVE_INFINITY, parser.parseDouble("1e309"), 0);
+    assertEquals(Double.MIN_VALUE, parser.parseDouble("4.9e-324"), 0);
+    assertEquals(0, parser.parseDouble("2e-324"), 0);
+    assertEquals(Double.MAX_VALUE, parser.parseDouble("1.7976931348623157e308"), 0);
+    assertEquals(0.1, parser.parseDouble("0.1000000000000000000000000001"), 0);
+    assertEquals(Status.OK, parser.status());
+    for (final String invalid : new String[] {".", "-", "e5", "1e", "1e+", "1.2.3", "Inf", "1d"}) {
+      assertEquals(0, parser.parseDouble(invalid), 0);
+      assertEquals(invalid, Status.INVALID, parser.status());
+    }
+    assertEquals(1.25, parser.parseDouble("[1.25]".toCharArray(), 1, 5), 0);
+    assertEquals(1.25, parser.parseDouble("[1.25]".getBytes(StandardCharsets.US_ASCII), 1, 5), 0);
+  }
+
+  @Test
+  public void testParseDoubleAsParseDouble() {
+    final Random random = new Random(19);
+    for (int i = 0; i < 100000; i++) {
+      final double value = Double.longBitsToDouble(random.nextLong());
+      final String s = Double.toString(value);
+      assertEquals(s, Double.parseDouble(s), parser.parseDouble(s), 0);
+      final String e = random.nextInt(1000000) + "e" + (random.nextInt(700) - 350);
+      assertEquals(e, Double.parseDouble(e), parser.parseDouble(e), 0);
+      final String d = random.nextLong() % 10000000000000000L + "." + random.nextInt(1000);
+      assertEquals(d, Double.parseDouble(d), parser.parseDouble(d), 0);
+    }
+  }
+
+  @Test
+  public void testFunctions() {
+    assertEquals(Integer.valueOf(-3), JFunctions.STRING_TO_INTEGER.apply("-3"));
+    assertNull(JFunctions.STRING_TO_INTEGER.apply("3.0"));
+    assertNull(JFunctions.STRING_TO_INTEGER.apply(null));
+    assertEquals(Long.valueOf(3), JFunctions.CHAR_SEQUENCE_TO_LONG.apply(new StringBuilder("3")));
+    assertEquals(Double.valueOf(0.3), JFunctions.CHAR_SEQUENCE_TO_DOUBLE.apply("3e-1"));
+    assertNull(JFunctions.CHAR_SEQUENCE_TO_DOUBLE.apply("three"));
+  }
+}
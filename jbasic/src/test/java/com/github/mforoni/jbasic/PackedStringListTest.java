@@ -0,0 +1,68 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * @author Foroni Marco
+ */
+public class PackedStringListTest {
+  private static final List<String> LATIN1 = ImmutableList.of("Città", "", "Perché", "a", "");
+  private static final List<String> UTF16 = ImmutableList.of("Città", "", "10 €", "a", "");
+
+  @Test
+  public void testCopyOf() {
+    for (final List<String> strings : ImmutableList.of(LATIN1, UTF16)) {
+      final PackedStringList list = PackedStringList.copyOf(strings);
+      assertEquals(strings, list);
+      assertEquals(strings.hashCode(), list.hashCode());
+      assertEquals(strings.size(), list.size());
+      for (int i = 0; i < strings.size(); i++) {
+        assertEquals(strings.get(i).length(), list.length(i));
+        assertEquals(strings.get(i), list.charSequence(i).toString());
+      }
+      assertEquals(3, list.indexOf("a"));
+      assertEquals(1, list.indexOf(""));
+      assertEquals(4, list.lastIndexOf(""));
+      assertTrue(list.contains("Città"));
+      assertFalse(list.contains(new StringBuilder("Città")));
+      assertEquals(-1, list.indexOf(new StringBuilder("a")));
+      assertEquals(3, list.indexOfContent(new StringBuilder("a")));
+      assertEquals(-1, list.indexOfContent("Citt"));
+      assertFalse(list.contains("Citt"));
+      assertFalse(list.contains(null));
+    }
+    assertTrue(PackedStringList.copyOf(ImmutableList.<String>of()).isEmpty());
+  }
+
+  @Test
+  public void testBuilder() {
+    final List<String> strings = new ArrayList<>();
+    final PackedStringList.Builder builder = PackedStringList.builder();
+    for (int i = 0; i < 10_000; i++) {
+      final String s = i == 5_000 ? "€" + i : String.valueOf(i);
+      strings.add(s);
+      builder.add(s);
+    }
+    assertEquals(strings, builder.build());
+  }
+
+  @Test
+  public void testCharSequence() {
+    final CharSequence view = PackedStringList.copyOf(UTF16).charSequence(2);
+    assertEquals(4, view.length());
+    assertEquals('€', view.charAt(3));
+    assertEquals("0 €", view.subSequence(1, 4).toString());
+    assertEquals("0", view.subSequence(1, 4).subSequence(0, 1).toString());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testImmutable() {
+    PackedStringList.copyOf(LATIN1).add("b");
+  }
+}
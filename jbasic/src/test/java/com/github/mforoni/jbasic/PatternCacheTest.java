@@ -0,0 +1,55 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.regex.Matcher;
+import java.util.regex.PatternSyntaxException;
+import org.junit.Test;
+
+/**
+ * @author Foroni Marco
+ */
+public class PatternCacheTest {
+  @Test
+  public void testCompile() {
+    final PatternCache cache = PatternCache.create(2);
+    assertSame(cache.compile("a+"), cache.compile("a+"));
+    assertEquals(1, cache.missCount());
+    assertEquals(1, cache.hitCount());
+    assertEquals(0.5, cache.hitRate(), 0);
+    cache.compile("b+");
+    cache.compile("c+");
+    assertTrue(cache.size() <= 2);
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void testCompileInvalid() {
+    PatternCache.create(2).compile("(");
+  }
+
+  @Test
+  public void testMatchesAndFind() {
+    final PatternCache cache = PatternCache.create(16);
+    for (int i = 0; i < 10; i++) {
+      assertTrue(cache.matches("abc" + i, "[a-z]+\\d"));
+      assertFalse(cache.matches("abc", "[a-z]+\\d"));
+      assertTrue(cache.find("x=42;", "\\d+"));
+      assertFalse(cache.find("x=;", "\\d+"));
+    }
+    assertEquals(2, cache.missCount());
+  }
+
+  @Test
+  public void testMatcherReuse() {
+    final PatternCache cache = PatternCache.create(16);
+    final Matcher first = cache.matcher("(\\d+)", "a1b22");
+    assertTrue(first.find());
+    assertEquals("1", first.group(1));
+    final Matcher second = cache.matcher("(\\d+)", "333");
+    assertSame(first, second);
+    assertTrue(second.find());
+    assertEquals("333", second.group(1));
+  }
+}
@@ -0,0 +1,42 @@
+package com.github.mforoni.jbasic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates random strings over small alphabets, so that the string algorithms can be compared with
+ * their reference implementations on many similar inputs.
+ *
+ * @author Foroni Marco
+ */
+final class RandomStrings {
+  // Suppresses default constructor, ensuring non-instantiability.
+  private RandomStrings() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Returns a random string of the given length made of the characters of {@code alphabet}.
+   */
+  static String of(final Random random, final int length, final String alphabet) {
+    final char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Returns {@code n} random strings made of the characters of {@code alphabet}, with a length
+   * from {@code minLength} inclusive to {@code maxLength} exclusive.
+   */
+  static List<String> list(final Random random, final int n, final int minLength,
+      final int maxLength, final String alphabet) {
+    final List<String> strings = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      strings.add(of(random, minLength + random.nextInt(maxLength - minLength), alphabet));
+    }
+    return strings;
+  }
+}
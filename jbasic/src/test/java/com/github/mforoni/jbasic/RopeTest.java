@@ -0,0 +1,78 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * @author Foroni Marco
+ */
+public class RopeTest {
+  @Test
+  public void testAppend() {
+    Rope rope = Rope.empty();
+    final StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 100_000; i++) {
+      final String s = i % 100 == 0 ? JStrings.padStart(String.valueOf(i), 200, '#') : "x" + i;
+      rope = rope.append(s);
+      expected.append(s);
+    }
+    assertEquals(expected.length(), rope.length());
+    assertEquals(expected.toString(), rope.toString());
+    assertEquals(expected.charAt(123_456), rope.charAt(123_456));
+    assertTrue(rope.height() < 40);
+  }
+
+  @Test
+  public void testInsertAndSubSequence() {
+    final Random random = new Random(7);
+    Rope rope = Rope.of("");
+    final StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 5_000; i++) {
+      final int index = random.nextInt(expected.length() + 1);
+      final String s = Integer.toString(random.nextInt(1_000_000), 36);
+      rope = rope.insert(index, s);
+      expected.insert(index, s);
+    }
+    assertEquals(expected.toString(), rope.toString());
+    assertTrue(rope.height() < 40);
+    for (int i = 0; i < 1_000; i++) {
+      final int start = random.nextInt(expected.length() + 1);
+      final int end = start + random.nextInt(expected.length() - start + 1);
+      assertEquals(expected.substring(start, end), rope.subSequence(start, end).toString());
+    }
+    final Rope joined = rope.subSequence(0, 10).append(rope.subSequence(10, rope.length()));
+    assertEquals(expected.toString(), joined.toString());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testInsertOutOfRange() {
+    Rope.of("abc").insert(4, "d");
+  }
+
+  @Test
+  public void testWriteTo() throws IOException {
+    // splits a surrogate pair between two leaves
+    final String emoji = "😀";
+    Rope rope = Rope.empty();
+    for (int i = 0; i < 2_000; i++) {
+      rope = rope.append(JStrings.padEnd("Città " + i, 70, ' ') + "\uD83D")
+          .append("\uDE00" + JStrings.padStart("€", 70, ' '));
+    }
+    final String expected = rope.toString();
+    assertTrue(expected.contains(emoji));
+    final StringWriter writer = new StringWriter();
+    rope.writeTo(writer);
+    assertEquals(expected, writer.toString());
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    rope.writeTo(Channels.newChannel(out), StandardCharsets.UTF_8);
+    assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+  }
+}
@@ -0,0 +1,68 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import info.debatty.java.stringsimilarity.Levenshtein;
+
+/**
+ * @author Foroni Marco
+ */
+public class SimilarityIndexTest {
+  static final List<String> WORDS = ImmutableList.of("book", "books", "cake", "boo",
+      "boon", "cook", "cape", "cart", "book", "bock", "looks", "");
+
+  @Test
+  public void testSize() {
+    assertEquals(11, SimilarityIndex.create(WORDS).size());
+    assertEquals(0, SimilarityIndex.create(ImmutableList.<String>of()).size());
+  }
+
+  @Test
+  public void testSimilars() {
+    final SimilarityIndex index = SimilarityIndex.create(WORDS);
+    assertEquals(ImmutableSet.of("book"), index.similars("book"));
+    assertEquals(ImmutableSet.of("cake", "cape"), index.similars("caqe"));
+    assertEquals(ImmutableSet.of("boo", "book", "bock"), index.similars("bok"));
+    assertTrue(SimilarityIndex.create(ImmutableList.<String>of()).similars("book").isEmpty());
+  }
+
+  @Test
+  public void testSimilarsAsJStrings() {
+    final Random random = new Random(17);
+    final List<String> words = RandomStrings.list(random, 2000, 3, 9, "abcdef");
+    final SimilarityIndex index = SimilarityIndex.create(words);
+    for (int i = 0; i < 200; i++) {
+      final String key = RandomStrings.of(random, 3 + random.nextInt(6), "abcdef");
+      assertEquals(JStrings.similars(key, words, new Levenshtein()), index.similars(key));
+    }
+  }
+
+  @Test
+  public void testWithin() {
+    final SimilarityIndex index = SimilarityIndex.create(WORDS);
+    assertEquals(ImmutableSet.of("book"), index.within("book", 0));
+    assertEquals(ImmutableSet.of("book", "books", "boo", "boon", "cook", "bock"),
+        index.within("book", 1));
+    final Random random = new Random(31);
+    final List<String> words = RandomStrings.list(random, 2000, 3, 9, "abcdef");
+    final SimilarityIndex randomIndex = SimilarityIndex.create(words);
+    final Levenshtein levenshtein = new Levenshtein();
+    for (int i = 0; i < 50; i++) {
+      final String key = RandomStrings.of(random, 3 + random.nextInt(6), "abcdef");
+      final Set<String> expected = new HashSet<>();
+      for (final String word : words) {
+        if (levenshtein.distance(word, key) <= 2) {
+          expected.add(word);
+        }
+      }
+      assertEquals(expected, randomIndex.within(key, 2));
+    }
+  }
+}
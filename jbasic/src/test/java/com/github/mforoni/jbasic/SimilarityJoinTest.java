@@ -0,0 +1,58 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import com.google.common.collect.ImmutableList;
+import info.debatty.java.stringsimilarity.Levenshtein;
+
+/**
+ * @author Foroni Marco
+ */
+public class SimilarityJoinTest {
+  @Test
+  public void testJoin() {
+    final List<String> left = ImmutableList.of("Acme Corp", "Globex", "Initech", "Hooli", "");
+    final List<String> right = ImmutableList.of("ACME Corp", "Acme Corp.", "Globex Inc", "Hooly",
+        "Initech", "Initech", "a");
+    final Set<String> pairs = toStrings(SimilarityJoin.join(left, right, 1));
+    final Set<String> expected = new HashSet<>(ImmutableList.of("Acme Corp=Acme Corp.",
+        "Initech=Initech", "Hooli=Hooly", "=a"));
+    assertEquals(expected, pairs);
+    assertTrue(SimilarityJoin.join(left, ImmutableList.<String>of(), 3).isEmpty());
+  }
+
+  @Test
+  public void testJoinAsBruteForce() {
+    final Random random = new Random(29);
+    final List<String> left = RandomStrings.list(random, 1500, 0, 12, "abcd");
+    final List<String> right = RandomStrings.list(random, 1500, 0, 12, "abcd");
+    final Levenshtein levenshtein = new Levenshtein();
+    for (int k = 0; k <= 3; k++) {
+      final Set<String> expected = new HashSet<>();
+      for (final String l : new HashSet<>(left)) {
+        for (final String r : new HashSet<>(right)) {
+          if (levenshtein.distance(l, r) <= k) {
+            expected.add(l + "=" + r);
+          }
+        }
+      }
+      final List<Map.Entry<String, String>> pairs = SimilarityJoin.join(left, right, k);
+      assertEquals(expected.size(), pairs.size());
+      assertEquals(expected, toStrings(pairs));
+    }
+  }
+
+  private static Set<String> toStrings(final List<Map.Entry<String, String>> pairs) {
+    final Set<String> strings = new HashSet<>();
+    for (final Map.Entry<String, String> pair : pairs) {
+      strings.add(pair.getKey() + "=" + pair.getValue());
+    }
+    return strings;
+  }
+}
@@ -0,0 +1,100 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import com.google.common.collect.Lists;
+
+/**
+ * @author Foroni Marco
+ */
+public class StringInternerTest {
+  @Test
+  public void testIntern() {
+    final StringInterner interner = StringInterner.weak();
+    final String it = new String("IT");
+    final String copy = new String("IT");
+    assertNotSame(it, copy);
+    assertSame(it, interner.intern(it));
+    assertSame(it, interner.intern(copy));
+    assertSame(it, interner.intern("IT"));
+    assertEquals(2, interner.hitCount());
+    assertEquals(1, interner.missCount());
+    assertEquals(2.0 / 3, interner.hitRate(), 1e-9);
+    assertEquals(1, interner.size());
+    assertEquals(1.0, StringInterner.weak().hitRate(), 0);
+  }
+
+  @Test
+  public void testInternAll() {
+    final List<String> strings = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      strings.add(String.valueOf(i % 100));
+    }
+    strings.add(null);
+    final StringInterner interner = StringInterner.weak();
+    assertSame(strings, interner.internAll(strings));
+    assertEquals(100, interner.size());
+    assertEquals(100, interner.missCount());
+    assertEquals(9_900, interner.hitCount());
+    for (int i = 100; i < 10_000; i++) {
+      assertSame(strings.get(i % 100), strings.get(i));
+    }
+  }
+
+  @Test
+  public void testBounded() {
+    final StringInterner interner = StringInterner.bounded(160);
+    for (int i = 0; i < 10_000; i++) {
+      interner.intern(String.valueOf(i));
+    }
+    assertTrue(interner.size() <= 160);
+    final String recent = interner.intern(new String("9999"));
+    assertSame(recent, interner.intern(new String("9999")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBoundedNotPositive() {
+    StringInterner.bounded(0);
+  }
+
+  @Test
+  public void testConcurrentIntern() throws Exception {
+    final StringInterner interner = StringInterner.weak();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<List<String>>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(executor.submit(new Callable<List<String>>() {
+          @Override
+          public List<String> call() {
+            final List<String> interned = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+              interned.add(interner.intern(String.valueOf(i)));
+            }
+            return interned;
+          }
+        }));
+      }
+      final List<String> first = futures.get(0).get();
+      for (final Future<List<String>> future : Lists.reverse(futures)) {
+        final List<String> interned = future.get();
+        for (int i = 0; i < interned.size(); i++) {
+          assertSame(first.get(i), interned.get(i));
+        }
+      }
+      assertEquals(5_000, interner.missCount());
+      assertEquals(15_000, interner.hitCount());
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
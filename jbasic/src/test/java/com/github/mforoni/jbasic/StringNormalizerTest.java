@@ -0,0 +1,60 @@
+package com.github.mforoni.jbasic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.Test;
+
+/**
+ * @author Foroni Marco
+ */
+public class StringNormalizerTest {
+  private static final String TEXT = "  Perché   l'università\t è\n chiusa?  ";
+
+  @Test
+  public void testNormalize() {
+    assertEquals(TEXT, StringNormalizer.create().normalize(TEXT));
+    assertEquals("Perché   l'università\t è\n chiusa?",
+        StringNormalizer.create().trimWhitespace().normalize(TEXT));
+    assertEquals(" Perché l'università è chiusa? ",
+        StringNormalizer.create().collapseWhitespace().normalize(TEXT));
+    assertEquals("perche l_universita e chiusa_", StringNormalizer.create().stripAccents()
+        .trimWhitespace().collapseWhitespace().toLowerCase().normalize(TEXT).replace('?', '_')
+        .replace('\'', '_'));
+    assertEquals("PERCHE_L_UNIVERSITA_E_CHIUSA_", StringNormalizer.create().toUpperCase()
+        .replaceNotAlphanumeric("_").collapseWhitespace().trimWhitespace().stripAccents()
+        .normalize(TEXT));
+    assertEquals("__Perch____l_universit______chiusa___",
+        StringNormalizer.create().replaceNotAlphanumeric("_").normalize(TEXT));
+    assertEquals("Cafe creme", StringNormalizer.create().stripAccents()
+        .normalize("Café crème"));
+    assertEquals("", StringNormalizer.create().trimWhitespace().normalize(" \t\n "));
+  }
+
+  @Test
+  public void testSupplementaryCharacters() {
+    final StringNormalizer replacer = StringNormalizer.create().replaceNotAlphanumeric("_");
+    // a surrogate pair is one character, replaced once
+    assertEquals("a_b", replacer.normalize("a\uD83D\uDE00b"));
+    assertEquals("a_b", "a\uD83D\uDE00b".replaceAll("[^A-Za-z0-9]", "_"));
+    // each lone surrogate is replaced on its own
+    assertEquals("a__b", replacer.normalize("a\uDE00\uD83Db"));
+    assertEquals("a_", replacer.normalize("a\uD83D"));
+    assertEquals("a_b", JStrings.replaceNotAlphanumeric("a\uD83D\uDE00b", "_"));
+    assertEquals("\uD801\uDC28", StringNormalizer.create().toLowerCase().normalize("\uD801\uDC00"));
+  }
+
+  @Test
+  public void testAppendTo() throws IOException {
+    final StringNormalizer normalizer =
+        StringNormalizer.create().trimWhitespace().collapseWhitespace().toLowerCase();
+    final StringBuilder sb = new StringBuilder("[");
+    assertSame(sb, normalizer.appendTo(sb, " A  B "));
+    normalizer.appendTo(sb.append("]["), "C\t\tD").append(']');
+    assertEquals("[a b][c d]", sb.toString());
+    final StringWriter writer = new StringWriter();
+    assertSame(writer, normalizer.appendTo(writer, "  E   F  "));
+    assertEquals("e f", writer.toString());
+  }
+}
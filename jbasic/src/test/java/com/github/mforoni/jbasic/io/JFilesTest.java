@@ -1,7 +1,9 @@
 package com.github.mforoni.jbasic.io;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import java.io.File;
@@ -10,6 +12,7 @@ import java.util.List;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import com.github.mforoni.jbasic.StringInterner;
 
 public class JFilesTest {
   @Before
@@ -54,6 +57,31 @@ public class JFilesTest {
   @Test
   public void testReadLinesPath() {}
 
+  @Test
+  public void testReadLinesPathInterner() {
+    try {
+      final StringInterner interner = StringInterner.weak();
+      final String line = interner.intern(JFiles.readLines(JFiles.fromResource("test.txt")).get(0));
+      final List<String> lines = JFiles.readLines(JFiles.fromResource("test.txt"), interner);
+      assertTrue(lines.size() == 1);
+      assertSame(line, lines.get(0));
+    } catch (final IOException e) {
+      e.printStackTrace();
+      fail();
+    }
+  }
+
+  @Test
+  public void testReadPackedLines() {
+    try {
+      final File file = JFiles.fromResource("test.txt");
+      assertEquals(JFiles.readLines(file), JFiles.readPackedLines(file.toPath()));
+    } catch (final IOException e) {
+      e.printStackTrace();
+      fail();
+    }
+  }
+
   @Test
   public void testListPath() {}
 
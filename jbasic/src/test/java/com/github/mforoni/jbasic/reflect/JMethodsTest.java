@@ -16,12 +16,14 @@ public class JMethodsTest {
 
   @Test
   public void testGetterNameStringClassOfQ() {
-    // TODO
+    assertEquals("getName", JMethods.getterName("name", String.class));
+    assertEquals("isActive", JMethods.getterName("active", boolean.class));
   }
 
   @Test
   public void testSetterName() {
-    // TODO
+    assertEquals("setName", JMethods.setterName("name"));
+    assertEquals("setX", JMethods.setterName("x"));
   }
 
   @Test
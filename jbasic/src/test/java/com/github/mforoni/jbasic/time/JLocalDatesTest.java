@@ -6,6 +6,7 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import java.nio.charset.StandardCharsets;
 import org.joda.time.IllegalFieldValueException;
 import org.joda.time.LocalDate;
 import org.junit.Test;
@@ -129,4 +130,19 @@ public class JLocalDatesTest {
     assertFalse(JLocalDates.isParsable(D29_02_2018_SLASH, JLocalDates.NUMERIC_DATE_FORMATS));
     assertFalse(JLocalDates.isParsable(D02_29_2018_SLASH, JLocalDates.NUMERIC_DATE_FORMATS));
   }
+
+  @Test
+  public final void testFormat() {
+    final char[] chars = new char[10];
+    assertEquals(10, JLocalDates.format(MARCH_8_2016, Pattern.DD_MM_YYYY_SLASH, chars, 0));
+    assertEquals("08/03/2016", new String(chars));
+    final byte[] bytes = new byte[8];
+    assertEquals(8, JLocalDates.format(MARCH_8_2016, Pattern.YYYYMMDD, bytes, 0));
+    assertEquals("20160308", new String(bytes, StandardCharsets.US_ASCII));
+    final LocalDate date = new LocalDate(987, 12, 1);
+    for (final Pattern pattern : Pattern.values()) {
+      assertEquals(date.toString(pattern.get()),
+          JLocalDates.append(new StringBuilder(), date, pattern).toString());
+    }
+  }
 }